@@ -0,0 +1,95 @@
+package de.janschultke.jpass;
+
+/**
+ * Finds the flat spans of a row of an image: the runs of pixels whose 3x3 neighbourhood is uniform. All pixels of a
+ * span have the same color, since each of them equals its left and right neighbour.
+ * <p>
+ * Pixel art consists mostly of flat regions, and the supersamplers only repeat a flat pixel, because none of their
+ * rules can tell it apart from its neighbours. So the output blocks of a span can be filled in bulk and the full
+ * kernels only have to run near edges.
+ * <p>
+ * The rows above and below are passed as offsets, so that they may be clamped or wrapped just like the supersampler
+ * does it. The outermost columns are never flat, since their horizontal neighbours depend on the supersampler.
+ * Instances hold the spans of the last row and must not be shared between threads.
+ */
+public final class FlatSpans {
+    
+    //the spans of the last row are [firsts[n], lasts[n])
+    private int[] firsts = new int[0], lasts = new int[0];
+    
+    /**
+     * Finds the flat spans of a row. <b>The spans are overwritten by the next call.</b>
+     *
+     * @param src the image data
+     * @param above the index of the first pixel of the row above
+     * @param row the index of the first pixel of the row
+     * @param below the index of the first pixel of the row below
+     * @param w the image width
+     * @return the number of spans
+     */
+    public int find(int[] src, int above, int row, int below, int w) {
+        return find(src, above, row, below, w, 0, w);
+    }
+    
+    /**
+     * Finds the flat spans of a half-open range of columns <code>[xFirst, xLast)</code> of a row. The spans are cut
+     * off at the range, but a pixel is flat or not no matter the range. <b>The spans are overwritten by the next
+     * call.</b>
+     *
+     * @param src the image data
+     * @param above the index of the first pixel of the row above
+     * @param row the index of the first pixel of the row
+     * @param below the index of the first pixel of the row below
+     * @param w the image width
+     * @param xFirst the first column
+     * @param xLast the column after the last column
+     * @return the number of spans
+     */
+    public int find(int[] src, int above, int row, int below, int w, int xFirst, int xLast) {
+        //spans are at least one pixel long and at least two pixels apart
+        if (firsts.length < w / 3 + 1) {
+            firsts = new int[w / 3 + 1];
+            lasts = new int[w / 3 + 1];
+        }
+        
+        //the inner pixels of every run of at least three uniform columns of the same color are flat
+        final int end = Math.min(xLast + 1, w);
+        int count = 0;
+        for (int x = Math.max(xFirst - 1, 0); x < end; ) {
+            final int c = src[row + x];
+            if (src[above + x] != c || src[below + x] != c) {
+                x++;
+                continue;
+            }
+            final int run = x++;
+            while (x < end && src[row + x] == c && src[above + x] == c && src[below + x] == c)
+                x++;
+            if (x - run >= 3) {
+                firsts[count] = run + 1;
+                lasts[count++] = x - 1;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the first column of a span of the last row.
+     *
+     * @param n the index of the span
+     * @return the first column
+     */
+    public int first(int n) {
+        return firsts[n];
+    }
+    
+    /**
+     * Returns the column after the last column of a span of the last row.
+     *
+     * @param n the index of the span
+     * @return the column after the last column
+     */
+    public int last(int n) {
+        return lasts[n];
+    }
+    
+}
@@ -0,0 +1,342 @@
+package de.janschultke.jpass;
+
+import de.janschultke.jpass.pixel.PixelSupersampler;
+import eisenwave.torrens.img.Texture;
+import eisenwave.torrens.img.gif.GIFDecoder;
+import eisenwave.torrens.img.gif.GIFEncoder;
+import eisenwave.torrens.img.gif.GIFFrame;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Scales the frames of a GIF animation in a three-stage pipeline:
+ * <ol>
+ *     <li>a decoder thread decodes and composites frames,</li>
+ *     <li>the scaling stage hands every decoded frame to the {@link JPASSScheduler} pool, where several frames are
+ *     scaled at once,</li>
+ *     <li>an encoder thread waits for the oldest scaled frame and encodes it, so the encoder always receives the
+ *     frames in their original order.</li>
+ * </ol>
+ * The stages are joined by bounded queues, so decoding, scaling and encoding overlap. A frame is in flight from the
+ * moment it is handed to the pool until the encoder has written it; the scaling stage waits for one of the frames in
+ * flight to be written before it hands over another one. The number of frames in flight is limited by a memory
+ * budget and never exceeds twice the number of threads, since more frames would not keep the pool any busier.
+ * <p>
+ * Every stage records how long it was busy and how long it was blocked on its neighbours, see {@link #getStats()}.
+ */
+public class GIFFrameScaler {
+    
+    /** The system property which sets the default memory budget in MiB. */
+    public final static String MEMORY_PROPERTY = "jpass.gif.memory";
+    
+    /** The number of decoded frames which may wait for the scaling stage. */
+    private final static int DECODE_AHEAD = 2;
+    
+    private final PixelSupersampler sampler;
+    private final long memoryBudget;
+    
+    private final StageStats
+        decodeStats = new StageStats("decode"),
+        scaleStats = new StageStats("scale"),
+        encodeStats = new StageStats("encode");
+    
+    /**
+     * Constructs a new frame scaler.
+     *
+     * @param sampler the supersampler to scale frames with
+     * @param memoryBudget the maximum number of bytes of frame data in flight; at least one frame is always in
+     * flight, regardless of the budget
+     */
+    public GIFFrameScaler(@NotNull PixelSupersampler sampler, long memoryBudget) {
+        if (memoryBudget <= 0)
+            throw new IllegalArgumentException("memory budget must be positive: " + memoryBudget);
+        this.sampler = sampler;
+        this.memoryBudget = memoryBudget;
+    }
+    
+    public GIFFrameScaler(@NotNull PixelSupersampler sampler) {
+        this(sampler, defaultMemoryBudget());
+    }
+    
+    /**
+     * Returns the default memory budget, which is taken from the {@value #MEMORY_PROPERTY} system property or is a
+     * quarter of the maximum heap size.
+     *
+     * @return the default memory budget in bytes
+     */
+    public static long defaultMemoryBudget() {
+        Long property = Long.getLong(MEMORY_PROPERTY);
+        return property != null && property > 0? property << 20 : Runtime.getRuntime().maxMemory() / 4;
+    }
+    
+    /**
+     * Returns how many frames of the given size may be scaled or wait for the encoder at once, including the frame
+     * which the encoder is writing.
+     * <p>
+     * Every frame in flight holds the copy of its decoded frame and its scaled frame. Apart from those, up to
+     * <code>DECODE_AHEAD + 2</code> decoded copies exist: the ones waiting in the queue, the one which the decoder is
+     * about to add to it and the one which the scaling stage holds while it waits for room among the frames in
+     * flight. The budget has to cover all of them.
+     *
+     * @param w the frame width
+     * @param h the frame height
+     * @return the maximum number of frames in flight
+     */
+    public int getMaxFramesInFlight(int w, int h) {
+        final int factor = sampler.getFactor();
+        // the copy of the decoded frame and the scaled frame
+        final long frameBytes = 4L * w * h * (1 + factor * factor);
+        final long budget = memoryBudget - (DECODE_AHEAD + 2) * 4L * w * h;
+        final long frames = Math.min(budget / Math.max(frameBytes, 1), JPASSScheduler.getThreads() * 2L);
+        return (int) Math.max(1, frames);
+    }
+    
+    /**
+     * Returns the statistics of the decode, scale and encode stage, in that order.
+     *
+     * @return the stage statistics
+     */
+    @NotNull
+    public StageStats[] getStats() {
+        return new StageStats[] {decodeStats, scaleStats, encodeStats};
+    }
+    
+    /**
+     * Scales all remaining frames of the decoder and writes them to the encoder. The header must already have been
+     * written. The scaling stage runs on the calling thread.
+     *
+     * @param dec the decoder
+     * @param enc the encoder
+     * @throws IOException if decoding or encoding fails
+     */
+    public void scale(GIFDecoder dec, GIFEncoder enc) throws IOException {
+        final int maxInFlight = getMaxFramesInFlight(dec.getHeader().getWidth(), dec.getHeader().getHeight());
+        final BlockingQueue<DecodedFrame> decoded = new ArrayBlockingQueue<>(DECODE_AHEAD);
+        final BlockingQueue<PendingFrame> pending = new ArrayBlockingQueue<>(maxInFlight);
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        Thread decoder = new Thread(() -> decode(dec, decoded, failure), "jpass-gif-decoder");
+        Thread encoder = new Thread(() -> encode(enc, pending, inFlight, failure), "jpass-gif-encoder");
+        decoder.start();
+        encoder.start();
+        
+        try {
+            dispatch(decoded, pending, inFlight, failure);
+            decoder.join();
+            encoder.join();
+        } catch (InterruptedException ex) {
+            failure.compareAndSet(null, ex);
+            decoder.interrupt();
+            encoder.interrupt();
+            Thread.currentThread().interrupt();
+        }
+        
+        final Throwable ex = failure.get();
+        if (ex instanceof IOException)
+            throw (IOException) ex;
+        if (ex instanceof RuntimeException)
+            throw (RuntimeException) ex;
+        if (ex instanceof Error)
+            throw (Error) ex;
+        if (ex != null)
+            throw new IOException(ex);
+    }
+    
+    private void decode(GIFDecoder dec, BlockingQueue<DecodedFrame> out, AtomicReference<Throwable> failure) {
+        try {
+            while (failure.get() == null) {
+                final long start = System.nanoTime();
+                if (!dec.hasNext())
+                    break;
+                
+                GIFFrame frame = dec.next();
+                
+                // the decoder keeps compositing into the same canvas, so the scaler needs its own copy
+                Texture canvas = dec.getCurrentData();
+                Texture copy = Texture.wrap(
+                    Arrays.copyOf(canvas.getData(), canvas.getData().length),
+                    canvas.getWidth(),
+                    canvas.getHeight());
+                
+                final long decoded = System.nanoTime();
+                out.put(new DecodedFrame(frame, copy));
+                decodeStats.record(decoded - start, System.nanoTime() - decoded);
+            }
+        } catch (Throwable ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            putEnd(out, DecodedFrame.END);
+        }
+    }
+    
+    private void dispatch(
+        BlockingQueue<DecodedFrame> in,
+        BlockingQueue<PendingFrame> out,
+        Semaphore inFlight,
+        AtomicReference<Throwable> failure) throws InterruptedException {
+        try {
+            while (true) {
+                // only the waits count as blocked, not the submission
+                long start = System.nanoTime();
+                DecodedFrame frame = in.take();
+                scaleStats.addBlocked(System.nanoTime() - start);
+                if (frame == DecodedFrame.END)
+                    break;
+                // keep draining after a failure so that the decoder never blocks
+                if (failure.get() != null)
+                    continue;
+                
+                // the encoder releases the permit once it has written the frame
+                start = System.nanoTime();
+                inFlight.acquire();
+                scaleStats.addBlocked(System.nanoTime() - start);
+                ForkJoinTask<Texture> result = JPASSScheduler.getPool().submit(() -> {
+                    final long scaleStart = System.nanoTime();
+                    Texture scaled = sampler.apply(frame.data);
+                    scaleStats.record(System.nanoTime() - scaleStart, 0);
+                    return scaled;
+                });
+                
+                start = System.nanoTime();
+                out.put(new PendingFrame(frame.frame, result));
+                scaleStats.addBlocked(System.nanoTime() - start);
+            }
+        } finally {
+            putEnd(out, PendingFrame.END);
+        }
+    }
+    
+    private void encode(
+        GIFEncoder enc,
+        BlockingQueue<PendingFrame> in,
+        Semaphore inFlight,
+        AtomicReference<Throwable> failure) {
+        try {
+            while (true) {
+                final long start = System.nanoTime();
+                PendingFrame frame = in.take();
+                if (frame == PendingFrame.END)
+                    break;
+                // keep draining after a failure so that the scaling stage never blocks
+                if (failure.get() == null)
+                    write(enc, frame, start, failure);
+                
+                // the frame must be unreachable before the scaling stage may hand over another one
+                frame = null;
+                inFlight.release();
+            }
+        } catch (InterruptedException ex) {
+            failure.compareAndSet(null, ex);
+        }
+    }
+    
+    private void write(GIFEncoder enc, PendingFrame frame, long start, AtomicReference<Throwable> failure) {
+        try {
+            Texture scaled = frame.result.join();
+            final long ready = System.nanoTime();
+            enc.write(new GIFFrame(frame.frame, scaled));
+            encodeStats.record(System.nanoTime() - ready, ready - start);
+        } catch (Throwable ex) {
+            failure.compareAndSet(null, ex);
+        }
+    }
+    
+    private static <T> void putEnd(BlockingQueue<T> queue, T end) {
+        try {
+            queue.put(end);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * The time a pipeline stage spent working and waiting.
+     * <p>
+     * The scaling stage is busy while any worker scales one of its frames, so its busy time is the sum over all
+     * frames and may exceed the wall-clock time. It is blocked while it waits for a decoded frame or for room among
+     * the frames in flight. The encoder is blocked while it waits for the next frame to be scaled.
+     */
+    public static class StageStats {
+        
+        private final String name;
+        private final AtomicLong
+            frames = new AtomicLong(),
+            busyNanos = new AtomicLong(),
+            blockedNanos = new AtomicLong();
+        
+        public StageStats(String name) {
+            this.name = name;
+        }
+        
+        void record(long busy, long blocked) {
+            frames.incrementAndGet();
+            busyNanos.addAndGet(busy);
+            blockedNanos.addAndGet(blocked);
+        }
+        
+        void addBlocked(long blocked) {
+            blockedNanos.addAndGet(blocked);
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public long getFrames() {
+            return frames.get();
+        }
+        
+        public long getBusyNanos() {
+            return busyNanos.get();
+        }
+        
+        public long getBlockedNanos() {
+            return blockedNanos.get();
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s: %d frames, busy %.1f ms, blocked %.1f ms",
+                name, getFrames(), getBusyNanos() / 1e6, getBlockedNanos() / 1e6);
+        }
+        
+    }
+    
+    private static class DecodedFrame {
+        
+        static final DecodedFrame END = new DecodedFrame(null, null);
+        
+        private final GIFFrame frame;
+        private final Texture data;
+        
+        public DecodedFrame(GIFFrame frame, Texture data) {
+            this.frame = frame;
+            this.data = data;
+        }
+        
+    }
+    
+    private static class PendingFrame {
+        
+        static final PendingFrame END = new PendingFrame(null, null);
+        
+        private final GIFFrame frame;
+        private final ForkJoinTask<Texture> result;
+        
+        public PendingFrame(GIFFrame frame, ForkJoinTask<Texture> result) {
+            this.frame = frame;
+            this.result = result;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,189 @@
+package de.janschultke.jpass;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * The thread budget shared by all parallel work of JPASS: row bands and tiles of the supersamplers and animation
+ * frames.
+ * <p>
+ * All of that work runs on a single work-stealing pool. Tasks which are started from inside the pool are forked into
+ * it instead of being submitted from outside, so nested parallelism (e.g. parallel frames which each scale parallel
+ * bands) never occupies more than {@link #getThreads()} cores.
+ * <p>
+ * The number of threads is taken from {@link #setThreads(int)}, the {@value #THREADS_PROPERTY} system property or
+ * the number of processors available to this process, including container CPU quotas, in that order.
+ */
+public final class JPASSScheduler {
+    
+    public final static String THREADS_PROPERTY = "jpass.threads";
+    
+    private static int threads = 0;
+    private static ForkJoinPool pool = null;
+    
+    private JPASSScheduler() {}
+    
+    /**
+     * Sets the number of threads. This must happen before the pool is first used.
+     *
+     * @param threads the number of threads
+     * @throws IllegalArgumentException if the number is not positive
+     * @throws IllegalStateException if the pool has already been created with a different number of threads
+     */
+    public static synchronized void setThreads(int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("number of threads must be at least 1: " + threads);
+        if (pool != null && pool.getParallelism() != threads)
+            throw new IllegalStateException(
+                "pool has already been created with " + pool.getParallelism() + " threads");
+        JPASSScheduler.threads = threads;
+    }
+    
+    /**
+     * Returns the number of threads which all parallel work shares.
+     *
+     * @return the number of threads
+     */
+    public static synchronized int getThreads() {
+        if (threads == 0) {
+            Integer property = Integer.getInteger(THREADS_PROPERTY);
+            threads = property != null && property > 0? property : availableProcessors();
+        }
+        return threads;
+    }
+    
+    /**
+     * Returns the shared pool, creating it on first use.
+     *
+     * @return the shared pool
+     */
+    @NotNull
+    public static synchronized ForkJoinPool getPool() {
+        if (pool == null)
+            pool = new ForkJoinPool(getThreads(), JPASSScheduler::newWorker, null, false);
+        return pool;
+    }
+    
+    /**
+     * Performs the given task on the shared pool and returns its result. If called from a worker of the pool, the
+     * task is forked into the pool directly, so the calling worker helps out instead of blocking.
+     *
+     * @param task the task
+     * @param <T> the result type
+     * @return the result of the task
+     */
+    public static <T> T invoke(@NotNull ForkJoinTask<T> task) {
+        ForkJoinPool pool = getPool();
+        return ForkJoinTask.getPool() == pool? task.invoke() : pool.invoke(task);
+    }
+    
+    /**
+     * Returns the number of processors available to this process, limited by the CPU quota of its cgroup, if any.
+     *
+     * @return the number of available processors
+     */
+    public static int availableProcessors() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final int quota = cgroupCpuQuota();
+        return quota > 0? Math.min(processors, quota) : processors;
+    }
+    
+    /**
+     * Returns the CPU quota of the cgroup of this process in whole processors (rounded up), or {@code -1} if there
+     * is no quota or it can't be determined. The cgroup is looked up in {@code /proc/self/cgroup}, and since the
+     * quotas of its ancestors apply as well, the smallest quota on the way up to the mount point counts.
+     * <p>
+     * Newer JVMs already take the quota into account in {@link Runtime#availableProcessors()}, but older Java 8
+     * releases don't.
+     *
+     * @return the CPU quota
+     */
+    private static int cgroupCpuQuota() {
+        List<String> cgroups = readLines(Paths.get("/proc/self/cgroup"));
+        if (cgroups == null)
+            return -1;
+        
+        int result = -1;
+        for (String line : cgroups) {
+            // "<id>:<controllers>:<path>", the controllers are empty for cgroup v2
+            String[] fields = line.split(":", 3);
+            if (fields.length != 3)
+                continue;
+            final String path = fields[2].startsWith("/")? fields[2].substring(1) : fields[2];
+            
+            final int quota;
+            if (fields[1].isEmpty())
+                quota = cgroupCpuQuota(Paths.get("/sys/fs/cgroup"), path, true);
+            else if (Arrays.asList(fields[1].split(",")).contains("cpu"))
+                quota = cgroupCpuQuota(Paths.get("/sys/fs/cgroup/cpu"), path, false);
+            else
+                continue;
+            result = minQuota(result, quota);
+        }
+        return result;
+    }
+    
+    // the path of the cgroup is relative to the mount point, unless the mount point is the root of the cgroup
+    // namespace of this process, so the walk up ends at the mount point either way
+    private static int cgroupCpuQuota(Path mount, String path, boolean v2) {
+        int result = -1;
+        for (Path dir = mount.resolve(path).normalize(); dir != null && dir.startsWith(mount); dir = dir.getParent()) {
+            final int quota;
+            if (v2) {
+                // "<quota> <period>" or "max <period>"
+                String[] max = readFirstLine(dir.resolve("cpu.max"));
+                quota = max != null && max.length == 2? quotaToProcessors(max[0], max[1]) : -1;
+            }
+            else {
+                // quota and period in separate files, quota is -1 if unlimited
+                String[] q = readFirstLine(dir.resolve("cpu.cfs_quota_us"));
+                String[] p = readFirstLine(dir.resolve("cpu.cfs_period_us"));
+                quota = q != null && p != null? quotaToProcessors(q[0], p[0]) : -1;
+            }
+            result = minQuota(result, quota);
+        }
+        return result;
+    }
+    
+    private static int minQuota(int a, int b) {
+        return a < 0? b : b < 0? a : Math.min(a, b);
+    }
+    
+    private static int quotaToProcessors(String quota, String period) {
+        try {
+            final long q = Long.parseLong(quota), p = Long.parseLong(period);
+            return q > 0 && p > 0? (int) Math.max(1, (q + p - 1) / p) : -1;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+    
+    private static String[] readFirstLine(Path path) {
+        List<String> lines = readLines(path);
+        return lines == null || lines.isEmpty()? null : lines.get(0).trim().split("\\s+");
+    }
+    
+    private static List<String> readLines(Path path) {
+        try {
+            return Files.isReadable(path)? Files.readAllLines(path) : null;
+        } catch (IOException | SecurityException ex) {
+            return null;
+        }
+    }
+    
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("jpass-worker-" + thread.getPoolIndex());
+        return thread;
+    }
+    
+}
@@ -20,20 +20,45 @@ public class Main {
         "Identity (1x):            identity",
         "Nearest Neighbor (2..5x): ?xnn|?xnearest|nearest?|nearest_neighbor_?",
         "xBRZ (2..5x):             xbrz?|?xbrz",
-        "AdvMAME (2|3x):           advmame2|advmame2x|advmame3|advmame3x",
+        "xBRZ downsampled (1..5x): xbrz?to?|2xbrzp",
+        "AdvMAME (2..4x):          advmame?|advmame?x|scale4x",
         "Eagle (2x):               eagle",
-        "HQX (2..4x):              hqx?|hqx_?|hqx?x"
+        "HQX (2..4x):              hqx?|hqx_?|hqx?x",
+        "Chain (factors multiply): ?+?[+...], e.g. hqx2+xbrz3"
     };
     
     public static void main(String... args) throws Exception {
-        if (args.length < 2) {
-            System.err.println("Usage: jpass ALGORITHM SOURCE [TARGET]\n\nAlgorithms:");
-            for (String algo : ALGORITHMS)
-                System.err.println("  " + algo);
-            System.exit(1);
+        long gifMemory = GIFFrameScaler.defaultMemoryBudget();
+        
+        int argi = 0;
+        for (; argi < args.length && args[argi].startsWith("-"); argi++) {
+            switch (args[argi]) {
+                case "-t":
+                case "--threads": {
+                    if (++argi == args.length)
+                        printUsageExit();
+                    JPASSScheduler.setThreads((int) parsePositive(args[argi - 1], args[argi], Integer.MAX_VALUE));
+                    break;
+                }
+                case "-m":
+                case "--gif-memory": {
+                    if (++argi == args.length)
+                        printUsageExit();
+                    gifMemory = parsePositive(args[argi - 1], args[argi], Long.MAX_VALUE >> 20) << 20;
+                    break;
+                }
+                default: printUsageExit();
+            }
         }
         
-        File inFile = new File(args[1]).getAbsoluteFile();
+        if (args.length - argi < 2)
+            printUsageExit();
+        
+        final String samplerName = args[argi];
+        final String inName = args[argi + 1];
+        final String outArg = args.length - argi > 2? args[argi + 2] : null;
+        
+        File inFile = new File(inName).getAbsoluteFile();
         if (!inFile.canRead())
             throw new IOException("can't read from: "+inFile);
         
@@ -41,13 +66,12 @@ public class Main {
         if (suffix == null)
             throw new IllegalArgumentException("input path must have valid suffix");
         
-        String samplerName = args[0];
-        PixelSupersampler sampler = PixelSupersampler.getByName(samplerName);
+        PixelSupersampler sampler = PixelSupersampler.getByName(samplerName, true);
     
         String outName = JPASSUtil.noSuffix(inFile.getName()) + "_" + samplerName + "." + suffix;
         
-        File outFile = args.length > 2?
-            new File(args[2]) :
+        File outFile = outArg != null?
+            new File(outArg) :
             new File(inFile.getParentFile(), outName);
     
         System.err.println("reading input image ...");
@@ -56,11 +80,40 @@ public class Main {
     
         System.err.println("read "+in);
         
-        ConcurrentArrays.setMaxThreads(4);
+        // torrens uses its own threads for some image operations, keep those within the budget too
+        ConcurrentArrays.setMaxThreads(JPASSScheduler.getThreads());
     
         System.err.println("writing output image ...");
     
-        applyAndWrite(sampler, in, outFile, suffix);
+        applyAndWrite(sampler, in, outFile, suffix, gifMemory);
+    }
+    
+    private static void printUsageExit() {
+        System.err.println("Usage: jpass [OPTIONS] ALGORITHM SOURCE [TARGET]\n\nOptions:");
+        System.err.println("  -t, --threads THREADS     number of threads (default: -D" + JPASSScheduler.THREADS_PROPERTY
+            + " or available processors)");
+        System.err.println("  -m, --gif-memory MIB      memory for GIF frames being scaled at once (default: -D"
+            + GIFFrameScaler.MEMORY_PROPERTY + " or a quarter of the heap)");
+        System.err.println("\nAlgorithms:");
+        for (String algo : ALGORITHMS)
+            System.err.println("  " + algo);
+        System.exit(1);
+    }
+    
+    // prints the usage and exits unless the value of the option is a number in [1, max]
+    private static long parsePositive(String option, String value, long max) {
+        long result;
+        try {
+            result = Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            result = 0;
+        }
+        if (result < 1 || result > max) {
+            System.err.println("invalid value for " + option + ": " + value + " (expected a number from 1 to "
+                + max + ")\n");
+            printUsageExit();
+        }
+        return result;
     }
     
     @NotNull
@@ -84,7 +137,7 @@ public class Main {
     }
     */
     
-    private static void applyAndWrite(PixelSupersampler sampler, Object obj, File file, String format)
+    private static void applyAndWrite(PixelSupersampler sampler, Object obj, File file, String format, long gifMemory)
         throws IOException {
         
         if (obj instanceof GIFDecoder) {
@@ -98,12 +151,10 @@ public class Main {
             
             enc.writeHeader(header);
     
-            while (dec.hasNext()) {
-                GIFFrame frame = dec.next();
-    
-                Texture t = sampler.apply(dec.getCurrentData());
-                enc.write(new GIFFrame(frame, t));
-            }
+            GIFFrameScaler scaler = new GIFFrameScaler(sampler, gifMemory);
+            scaler.scale(dec, enc);
+            for (GIFFrameScaler.StageStats stats : scaler.getStats())
+                System.err.println(stats);
             
             dec.close();
             enc.close();
@@ -25,6 +25,8 @@
 
 package de.janschultke.jpass.hqx;
 
+import java.util.Arrays;
+
 abstract class Hqx {
     
     public static final int
@@ -44,9 +46,26 @@ abstract class Hqx {
      * @return true if colors differ more than the thresholds permit, false otherwise
      */
     protected static boolean diff(final int c1, final int c2, final int trY, final int trU, final int trV, final int trA) {
-        final int YUV1 = RgbYuv.getYuv(c1);
-        final int YUV2 = RgbYuv.getYuv(c2);
-        
+        return diffYuv(c1, c2, RgbYuv.getYuv(c1), RgbYuv.getYuv(c2), trY, trU, trV, trA);
+    }
+    
+    /**
+     * Compares two ARGB colors whose YUV values are already known according to the provided Y, U, V and A thresholds.
+     *
+     * @param c1 an ARGB color
+     * @param c2 a second ARGB color
+     * @param YUV1 the YUV value of the first color
+     * @param YUV2 the YUV value of the second color
+     * @param trY the Y (luminance) threshold
+     * @param trU the U (chrominance) threshold
+     * @param trV the V (chrominance) threshold
+     * @param trA the A (transparency) threshold
+     * @return true if colors differ more than the thresholds permit, false otherwise
+     * @see #diff(int, int, int, int, int, int)
+     */
+    static boolean diffYuv(
+        final int c1, final int c2, final int YUV1, final int YUV2,
+        final int trY, final int trU, final int trV, final int trA) {
         return (
             (Math.abs((YUV1 & Y_MASK) - (YUV2 & Y_MASK)) > trY) ||
             (Math.abs((YUV1 & U_MASK) - (YUV2 & U_MASK)) > trU) ||
@@ -55,4 +74,21 @@ abstract class Hqx {
         );
     }
     
+    /**
+     * Fills the destination blocks of a flat span of source pixels with their color. Every pattern case reproduces a
+     * pixel whose neighbours all have its color, so the span does not have to go through them.
+     *
+     * @param dp the destination image data array
+     * @param dpIdx the index of the top left destination pixel of the span
+     * @param dpL the width of the destination image
+     * @param scale the scale
+     * @param length the number of source pixels
+     * @param color the color of the span
+     * @see de.janschultke.jpass.FlatSpans
+     */
+    static void fillSpan(final int[] dp, final int dpIdx, final int dpL, final int scale, final int length, final int color) {
+        for (int k = 0, idx = dpIdx; k < scale; k++, idx += dpL)
+            Arrays.fill(dp, idx, idx + scale * length, color);
+    }
+    
 }
@@ -0,0 +1,106 @@
+package de.janschultke.jpass.hqx;
+
+/**
+ * The neighbour patterns of all pixels of a source image, one byte per pixel.
+ * <p>
+ * The patterns only depend on the source image and the Y, U, V, A thresholds, not on the scale. A plane may thus be
+ * analyzed once and then be rendered at 2x, 3x and 4x, for instance by
+ * {@link Hqx_2x#hq2x_32_rb(int[], HqxPatternPlane)}. The source image must not be modified in between.
+ * <p>
+ * Non-overlapping row ranges of a plane may be analyzed by multiple threads, see {@link #analyze(int, int)}.
+ */
+public final class HqxPatternPlane {
+    
+    final int[] sp;
+    final int Xres, Yres;
+    final int trY, trU, trV, trA;
+    final boolean wrapX, wrapY;
+    final byte[] patterns;
+    
+    /**
+     * Constructs a new, not yet analyzed pattern plane. The Y, U, V, A parameters will be set as 48, 7, 6 and 0,
+     * respectively. Also, wrapping will be false.
+     *
+     * @param sp the source image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     */
+    public HqxPatternPlane(final int[] sp, final int Xres, final int Yres) {
+        this(sp, Xres, Yres, 48, 7, 6, 0, false, false);
+    }
+    
+    /**
+     * Constructs a new, not yet analyzed pattern plane.
+     *
+     * @param sp the source image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     * @param trY the Y (luminance) threshold
+     * @param trU the U (chrominance) threshold
+     * @param trV the V (chrominance) threshold
+     * @param trA the A (transparency) threshold
+     * @param wrapX used for images that can be seamlessly repeated horizontally
+     * @param wrapY used for images that can be seamlessly repeated vertically
+     */
+    public HqxPatternPlane(
+        final int[] sp,
+        final int Xres, final int Yres,
+        final int trY, final int trU, final int trV, final int trA,
+        final boolean wrapX, final boolean wrapY) {
+        if (sp.length < Xres * Yres)
+            throw new IllegalArgumentException("source data is smaller than " + Xres + "x" + Yres);
+        this.sp = sp;
+        this.Xres = Xres;
+        this.Yres = Yres;
+        this.trY = trY;
+        this.trU = trU;
+        this.trV = trV;
+        this.trA = trA;
+        this.wrapX = wrapX;
+        this.wrapY = wrapY;
+        this.patterns = new byte[Xres * Yres];
+    }
+    
+    /**
+     * Analyzes an entire source image.
+     *
+     * @param sp the source image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     * @return the analyzed pattern plane
+     * @see #HqxPatternPlane(int[], int, int)
+     */
+    public static HqxPatternPlane analyze(final int[] sp, final int Xres, final int Yres) {
+        HqxPatternPlane plane = new HqxPatternPlane(sp, Xres, Yres);
+        plane.analyze(0, Yres);
+        return plane;
+    }
+    
+    /**
+     * Computes the patterns of a half-open range of rows <code>[yFirst, yLast)</code>.
+     *
+     * @param yFirst the first source row
+     * @param yLast the source row after the last row
+     */
+    public void analyze(int yFirst, int yLast) {
+        yFirst = Math.max(yFirst, 0);
+        yLast = Math.min(yLast, Yres);
+        //the thresholds are compared to masked YUV components, as in the engines
+        final HqxPatterns rows = new HqxPatterns(sp, Xres, Yres, trY << 16, trU << 8, trV, trA, wrapX, wrapY, null);
+        
+        for (int j = yFirst, idx = yFirst * Xres; j < yLast; j++) {
+            final int[] row = rows.row(j);
+            for (int i = 0; i < Xres; i++, idx++)
+                patterns[idx] = (byte) row[i];
+        }
+    }
+    
+    public int getWidth() {
+        return Xres;
+    }
+    
+    public int getHeight() {
+        return Yres;
+    }
+    
+}
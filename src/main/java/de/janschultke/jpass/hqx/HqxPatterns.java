@@ -0,0 +1,199 @@
+package de.janschultke.jpass.hqx;
+
+import de.janschultke.jpass.FlatSpans;
+import de.janschultke.jpass.simd.SIMD;
+
+import java.util.Arrays;
+
+/**
+ * Computes the neighbour patterns of the HQx algorithms one source row at a time.
+ * <p>
+ * Bit <code>n</code> of a pattern is set if the <code>n</code>-th of the eight neighbours of a pixel, in row-major
+ * order, differs from the pixel according to {@link Hqx#diff(int, int, int, int, int, int)}. Instead of converting
+ * both colors to YUV for every comparison, each source row is converted only once and kept in a rolling buffer of
+ * three rows while its neighbour rows are processed. The YUV values of the neighbourhood of a pixel are also passed
+ * on to the pattern cases, see {@link #window(int, int[])}.
+ * <p>
+ * With {@link SIMD} enabled, each neighbour is compared with all inner pixels of a row at once; the outermost pixels,
+ * whose neighbours depend on the wrapping, are always compared one at a time.
+ * <p>
+ * If the patterns have already been computed by a {@link HqxPatternPlane}, they are read from there and only the YUV
+ * rows are still converted.
+ */
+final class HqxPatterns {
+    
+    private final int[] sp;
+    private final int Xres, Yres;
+    private final int trY, trU, trV, trA;
+    private final boolean wrapX, wrapY;
+    
+    private final int[][] yuvRows = new int[3][];
+    private final int[] yuvRowIndices = {-1, -1, -1};
+    private final int[] patterns;
+    private final byte[] plane;
+    private int[] prev, cur, next;
+    
+    /**
+     * Constructs a new pattern buffer for a source image.
+     *
+     * @param sp the source image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     * @param trY the Y (luminance) threshold, shifted left by 16 bits
+     * @param trU the U (chrominance) threshold, shifted left by 8 bits
+     * @param trV the V (chrominance) threshold
+     * @param trA the A (transparency) threshold
+     * @param wrapX used for images that can be seamlessly repeated horizontally
+     * @param wrapY used for images that can be seamlessly repeated vertically
+     * @param plane the precomputed patterns of {@link HqxPatternPlane} or null if they should be computed
+     */
+    HqxPatterns(
+        final int[] sp,
+        final int Xres, final int Yres,
+        final int trY, final int trU, final int trV, final int trA,
+        final boolean wrapX, final boolean wrapY,
+        final byte[] plane) {
+        this.sp = sp;
+        this.Xres = Xres;
+        this.Yres = Yres;
+        this.trY = trY;
+        this.trU = trU;
+        this.trV = trV;
+        this.trA = trA;
+        this.wrapX = wrapX;
+        this.wrapY = wrapY;
+        for (int n = 0; n < yuvRows.length; n++)
+            yuvRows[n] = new int[Xres];
+        this.patterns = new int[Xres];
+        this.plane = plane;
+    }
+    
+    /**
+     * Returns the patterns of all pixels of a source row. Rows are converted to YUV at most once as long as they are
+     * requested in ascending order. <b>The returned array is overwritten by the next call.</b>
+     *
+     * @param j the source row
+     * @return the patterns of the row
+     */
+    int[] row(final int j) {
+        return row(j, null, 0);
+    }
+    
+    /**
+     * Returns the patterns of all pixels of a source row except for those of flat spans, which are left undefined.
+     * <b>The returned array is overwritten by the next call.</b>
+     *
+     * @param j the source row
+     * @param flat the flat spans of the row
+     * @param spans the number of flat spans
+     * @return the patterns of the row
+     * @see #row(int)
+     */
+    int[] row(final int j, final FlatSpans flat, final int spans) {
+        final int prevRow = (j > 0)? j - 1 : wrapY? Yres - 1 : j;
+        final int nextRow = (j < Yres - 1)? j + 1 : wrapY? 0 : j;
+        prev = yuvRow(j - 1, prevRow);
+        cur = yuvRow(j, j);
+        next = yuvRow(j + 1, nextRow);
+        final int prevIdx = prevRow * Xres, curIdx = j * Xres, nextIdx = nextRow * Xres;
+        
+        if (plane != null) {
+            for (int i = 0; i < Xres; i++)
+                patterns[i] = plane[curIdx + i] & 0xff;
+            return patterns;
+        }
+        
+        if (SIMD.isEnabled() && Xres > 2) {
+            Arrays.fill(patterns, 1, Xres - 1, 0);
+            diffs(curIdx, prevIdx - 1, prev, -1, 1);
+            diffs(curIdx, prevIdx, prev, 0, 2);
+            diffs(curIdx, prevIdx + 1, prev, 1, 4);
+            diffs(curIdx, curIdx - 1, cur, -1, 8);
+            diffs(curIdx, curIdx + 1, cur, 1, 16);
+            diffs(curIdx, nextIdx - 1, next, -1, 32);
+            diffs(curIdx, nextIdx, next, 0, 64);
+            diffs(curIdx, nextIdx + 1, next, 1, 128);
+            patterns[0] = pattern(0, prevIdx, curIdx, nextIdx);
+            patterns[Xres - 1] = pattern(Xres - 1, prevIdx, curIdx, nextIdx);
+        }
+        else {
+            for (int i = 0, span = 0; i < Xres; i++) {
+                if (span < spans && i == flat.first(span)) {
+                    i = flat.last(span++) - 1;
+                    continue;
+                }
+                patterns[i] = pattern(i, prevIdx, curIdx, nextIdx);
+            }
+        }
+        
+        return patterns;
+    }
+    
+    //compares the inner pixels of the current row with one neighbour each, where n is the index of the neighbour row
+    //and dx the horizontal offset of the neighbours
+    private void diffs(final int curIdx, final int n, final int[] nYuv, final int dx, final int bit) {
+        SIMD.hqxDiff(sp, curIdx + 1, cur, 1, sp, n + 1, nYuv, 1 + dx, Xres - 2, trY, trU, trV, trA, patterns, 1, bit);
+    }
+    
+    private int pattern(final int i, final int prevIdx, final int curIdx, final int nextIdx) {
+        final int l = (i > 0)? i - 1 : wrapX? Xres - 1 : i;
+        final int r = (i < Xres - 1)? i + 1 : wrapX? 0 : i;
+        final int c = sp[curIdx + i], yuv = cur[i];
+        
+        int pattern = 0;
+        if (diff(c, yuv, sp[prevIdx + l], prev[l])) pattern |= 1;
+        if (diff(c, yuv, sp[prevIdx + i], prev[i])) pattern |= 2;
+        if (diff(c, yuv, sp[prevIdx + r], prev[r])) pattern |= 4;
+        if (diff(c, yuv, sp[curIdx + l], cur[l])) pattern |= 8;
+        if (diff(c, yuv, sp[curIdx + r], cur[r])) pattern |= 16;
+        if (diff(c, yuv, sp[nextIdx + l], next[l])) pattern |= 32;
+        if (diff(c, yuv, sp[nextIdx + i], next[i])) pattern |= 64;
+        if (diff(c, yuv, sp[nextIdx + r], next[r])) pattern |= 128;
+        return pattern;
+    }
+    
+    /**
+     * Copies the YUV values of the 3x3 neighbourhood of a pixel of the last row returned by {@link #row(int)}, in the
+     * same order as the neighbourhood of the HQx algorithms.
+     *
+     * @param i the source column
+     * @param yuv the array of length 9 to copy the values into
+     */
+    void window(final int i, final int[] yuv) {
+        final int l = (i > 0)? i - 1 : wrapX? Xres - 1 : i;
+        final int r = (i < Xres - 1)? i + 1 : wrapX? 0 : i;
+        yuv[0] = prev[l];
+        yuv[1] = prev[i];
+        yuv[2] = prev[r];
+        yuv[3] = cur[l];
+        yuv[4] = cur[i];
+        yuv[5] = cur[r];
+        yuv[6] = next[l];
+        yuv[7] = next[i];
+        yuv[8] = next[r];
+    }
+    
+    private boolean diff(final int c1, final int yuv1, final int c2, final int yuv2) {
+        return c1 != c2 && Hqx.diffYuv(c1, c2, yuv1, yuv2, trY, trU, trV, trA);
+    }
+    
+    /**
+     * Returns the YUV values of a source row. The rows which are requested for the same output row have different
+     * sequence numbers modulo 3, so they never evict each other from the buffer.
+     *
+     * @param seq the sequence number, which is the unclamped and unwrapped row index
+     * @param row the index of the row
+     * @return the YUV row
+     */
+    private int[] yuvRow(final int seq, final int row) {
+        final int slot = (seq + 3) % 3;
+        final int[] yuv = yuvRows[slot];
+        if (yuvRowIndices[slot] != row) {
+            for (int i = 0, spIdx = row * Xres; i < Xres; i++, spIdx++)
+                yuv[i] = RgbYuv.getYuv(sp[spIdx]);
+            yuvRowIndices[slot] = row;
+        }
+        return yuv;
+    }
+    
+}
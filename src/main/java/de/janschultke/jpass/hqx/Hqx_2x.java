@@ -25,6 +25,8 @@
 
 package de.janschultke.jpass.hqx;
 
+import de.janschultke.jpass.FlatSpans;
+
 public class Hqx_2x extends Hqx {
     
     /**
@@ -44,6 +46,26 @@ public class Hqx_2x extends Hqx {
         hq2x_32_rb(sp, dp, Xres, Yres, 48, 7, 6, 0, false, false);
     }
     
+    /**
+     * Applies the hq2x algorithm to a half-open range of rows <code>[yFirst, yLast)</code> of the source image only.
+     * <b>The destination image must be exactly twice as large in both dimensions as the source image</b>
+     * The Y, U, V, A parameters will be set as 48, 7, 6 and 0, respectively. Also, wrapping will be false.
+     *
+     * @param sp the source image data array in ARGB format
+     * @param dp the destination image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     * @param yFirst the first source row
+     * @param yLast the source row after the last row
+     * @see #hq2x_32_rb(int[], int[], int, int, int, int, int, int, boolean, boolean, int, int)
+     */
+    public static void hq2x_32_rb(
+        final int[] sp, final int[] dp,
+        final int Xres, final int Yres,
+        final int yFirst, final int yLast) {
+        hq2x_32_rb(sp, dp, Xres, Yres, 48, 7, 6, 0, false, false, yFirst, yLast);
+    }
+    
     /**
      * This is the extended Java port of the hq2x algorithm.
      * <b>The destination image must be exactly twice as large in both dimensions as the source image</b>
@@ -64,7 +86,78 @@ public class Hqx_2x extends Hqx {
         final int Xres, final int Yres,
         int trY, int trU, final int trV, final int trA,
         final boolean wrapX, final boolean wrapY) {
-        int spIdx = 0, dpIdx = 0;
+        hq2x_32_rb(sp, dp, Xres, Yres, trY, trU, trV, trA, wrapX, wrapY, 0, Yres);
+    }
+    
+    /**
+     * This is the extended Java port of the hq2x algorithm, applied to a half-open range of rows
+     * <code>[yFirst, yLast)</code> of the source image only. Rows outside of that range are still read as
+     * neighbours, so <code>sp</code> must always contain the entire image, but only the destination rows of the
+     * range are written. Thus, non-overlapping ranges of the same image may be processed by multiple threads.
+     * <b>The destination image must be exactly twice as large in both dimensions as the source image</b>
+     *
+     * @param sp the source image data array in ARGB format
+     * @param dp the destination image data array in ARGB format
+     * @param Xres the horizontal resolution of the source image
+     * @param Yres the vertical resolution of the source image
+     * @param trY the Y (luminance) threshold
+     * @param trU the U (chrominance) threshold
+     * @param trV the V (chrominance) threshold
+     * @param trA the A (transparency) threshold
+     * @param wrapX used for images that can be seamlessly repeated horizontally
+     * @param wrapY used for images that can be seamlessly repeated vertically
+     * @param yFirst the first source row
+     * @param yLast the source row after the last row
+     */
+    public static void hq2x_32_rb(
+        final int[] sp, final int[] dp,
+        final int Xres, final int Yres,
+        int trY, int trU, final int trV, final int trA,
+        final boolean wrapX, final boolean wrapY,
+        int yFirst, int yLast) {
+        hq2x_32_rb(sp, dp, Xres, Yres, trY, trU, trV, trA, wrapX, wrapY, yFirst, yLast, null);
+    }
+    
+    /**
+     * Renders the hq2x algorithm from an already analyzed pattern plane, which may also be rendered at other scales.
+     * <b>The destination image must be exactly twice as large in both dimensions as the source image</b>
+     *
+     * @param dp the destination image data array in ARGB format
+     * @param plane the pattern plane of the source image
+     * @see HqxPatternPlane
+     */
+    public static void hq2x_32_rb(final int[] dp, final HqxPatternPlane plane) {
+        hq2x_32_rb(dp, plane, 0, plane.Yres);
+    }
+    
+    /**
+     * Renders the hq2x algorithm from an already analyzed pattern plane, applied to a half-open range of rows
+     * <code>[yFirst, yLast)</code> of the source image only. Only the patterns of the range itself have to be analyzed.
+     * <b>The destination image must be exactly twice as large in both dimensions as the source image</b>
+     *
+     * @param dp the destination image data array in ARGB format
+     * @param plane the pattern plane of the source image
+     * @param yFirst the first source row
+     * @param yLast the source row after the last row
+     * @see HqxPatternPlane
+     */
+    public static void hq2x_32_rb(final int[] dp, final HqxPatternPlane plane, final int yFirst, final int yLast) {
+        hq2x_32_rb(
+            plane.sp, dp, plane.Xres, plane.Yres,
+            plane.trY, plane.trU, plane.trV, plane.trA, plane.wrapX, plane.wrapY,
+            yFirst, yLast, plane.patterns);
+    }
+    
+    private static void hq2x_32_rb(
+        final int[] sp, final int[] dp,
+        final int Xres, final int Yres,
+        int trY, int trU, final int trV, final int trA,
+        final boolean wrapX, final boolean wrapY,
+        int yFirst, int yLast,
+        final byte[] plane) {
+        yFirst = Math.max(yFirst, 0);
+        yLast = Math.min(yLast, Yres);
+        int spIdx = yFirst * Xres, dpIdx = yFirst * Xres * 4;
         //Don't shift trA, as it uses shift right instead of a mask for comparisons.
         trY <<= 16;
         trU <<= 8;
@@ -72,8 +165,11 @@ public class Hqx_2x extends Hqx {
         
         int prevline, nextline;
         final int[] w = new int[9];
+        final int[] yuv = new int[9];
+        final HqxPatterns patternRows = new HqxPatterns(sp, Xres, Yres, trY, trU, trV, trA, wrapX, wrapY, plane);
+        final FlatSpans flat = new FlatSpans();
         
-        for (int j = 0; j < Yres; j++) {
+        for (int j = yFirst; j < yLast; j++) {
             prevline = (j > 0)
                 ? -Xres
                 : wrapY
@@ -84,7 +180,21 @@ public class Hqx_2x extends Hqx {
                 : wrapY
                 ? -(Xres * (Yres - 1))
                 : 0;
+            //the pixels of flat spans skip the pattern cases, see fillSpan
+            final int spans = flat.find(sp, spIdx + prevline, spIdx, spIdx + nextline, Xres);
+            final int[] patterns = patternRows.row(j, flat, spans);
+            int span = 0, flatFirst = spans > 0? flat.first(0) : Xres;
             for (int i = 0; i < Xres; i++) {
+                if (i == flatFirst) {
+                    final int length = flat.last(span) - i;
+                    fillSpan(dp, dpIdx, dpL, 2, length, sp[spIdx]);
+                    spIdx += length;
+                    dpIdx += 2 * length;
+                    i += length - 1;
+                    flatFirst = ++span < spans? flat.first(span) : Xres;
+                    continue;
+                }
+                
                 w[1] = sp[spIdx + prevline];
                 w[4] = sp[spIdx];
                 w[7] = sp[spIdx + nextline];
@@ -125,18 +235,8 @@ public class Hqx_2x extends Hqx {
                     }
                 }
                 
-                int pattern = 0;
-                int flag = 1;
-                
-                for (int k = 0; k < 9; k++) {
-                    if (k == 4) continue;
-                    
-                    if (w[k] != w[4]) {
-                        if (diff(w[4], w[k], trY, trU, trV, trA))
-                            pattern |= flag;
-                    }
-                    flag <<= 1;
-                }
+                patternRows.window(i, yuv);
+                final int pattern = patterns[i];
                 
                 switch (pattern) {
                     case 0:
@@ -155,2114 +255,727 @@ public class Hqx_2x extends Hqx {
                     case 161:
                     case 37:
                     case 165: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case0(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 2:
                     case 34:
                     case 130:
                     case 162: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case2(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 16:
                     case 17:
                     case 48:
                     case 49: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case16(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 64:
                     case 65:
                     case 68:
                     case 69: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case64(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 8:
                     case 12:
                     case 136:
                     case 140: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case8(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 3:
                     case 35:
                     case 131:
                     case 163: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case3(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 6:
                     case 38:
                     case 134:
                     case 166: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case6(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 20:
                     case 21:
                     case 52:
                     case 53: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case20(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 144:
                     case 145:
                     case 176:
                     case 177: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case144(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 192:
                     case 193:
                     case 196:
                     case 197: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case192(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 96:
                     case 97:
                     case 100:
                     case 101: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case96(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 40:
                     case 44:
                     case 168:
                     case 172: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case40(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 9:
                     case 13:
                     case 137:
                     case 141: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case9(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 18:
                     case 50: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case18(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 80:
                     case 81: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case80(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 72:
                     case 76: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case72(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 10:
                     case 138: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case10(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 66: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case66(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 24: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case24(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 7:
                     case 39:
                     case 135: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case7(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 148:
                     case 149:
                     case 180: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case148(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 224:
                     case 228:
                     case 225: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case224(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 41:
                     case 169:
                     case 45: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case41(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 22:
                     case 54: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case22(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 208:
                     case 209: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case208(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 104:
                     case 108: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case104(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 11:
                     case 139: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case11(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 19:
                     case 51: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case19(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 146:
                     case 178: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                        case146(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 84:
                     case 85: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+                        case84(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 112:
                     case 113: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
+                        case112(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 200:
                     case 204: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        }
+                        case200(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 73:
                     case 77: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case73(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 42:
                     case 170: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case42(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 14:
                     case 142: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case14(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 67: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case67(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 70: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case70(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 28: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case28(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 152: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case152(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 194: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case194(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 98: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case98(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 56: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case56(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 25: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case25(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 26:
                     case 31: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case26(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 82:
                     case 214: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case82(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 88:
                     case 248: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case88(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 74:
                     case 107: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case74(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 27: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case27(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 86: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case86(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 216: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case216(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 106: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case106(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 30: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case30(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 210: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case210(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 120: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case120(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 75: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case75(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 29: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case29(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 198: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case198(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 184: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case184(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 99: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case99(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 57: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case57(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 71: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case71(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 156: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case156(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 226: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case226(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 60: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case60(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 195: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case195(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 102: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case102(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 153: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case153(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 58: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case58(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 83: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case83(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 92: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case92(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 202: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case202(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 78: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case78(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 154: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case154(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 114: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case114(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 89: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case89(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 90: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case90(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 55:
                     case 23: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case55(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 182:
                     case 150: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+                        case182(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 213:
                     case 212: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+                        case213(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 241:
                     case 240: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
+                        case241(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 236:
                     case 232: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        }
+                        case236(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 109:
                     case 105: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case109(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 171:
                     case 43: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case171(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 143:
                     case 15: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case143(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 124: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case124(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 203: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case203(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 62: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case62(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 211: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case211(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 118: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case118(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 217: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case217(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 110: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case110(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 155: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case155(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 188: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case188(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 185: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case185(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 61: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case61(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 157: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case157(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 103: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case103(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 227: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case227(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 230: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case230(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 199: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case199(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 220: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case220(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 158: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case158(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 234: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case234(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 242: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case242(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 59: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case59(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 121: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case121(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 87: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case87(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 79: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case79(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 122: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case122(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 94: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case94(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 218: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case218(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 91: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case91(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 229: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case229(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 167: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case167(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 173: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case173(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 181: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case181(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 186: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case186(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 115: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case115(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 93: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case93(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 206: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case206(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 205:
                     case 201: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case205(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 174:
                     case 46: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case174(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 179:
                     case 147: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case179(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 117:
                     case 116: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
-                        }
+                        case117(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 189: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case189(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 231: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case231(dp, dpIdx, dpL, w);
                         break;
                     }
                     case 126: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case126(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 219: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case219(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 125: {
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case125(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 221: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+                        case221(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 207: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case207(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 238: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
-                        }
+                        case238(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 190: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+                        case190(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 187: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case187(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 243: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
-                        }
+                        case243(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 119: {
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
-                            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case119(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 237:
                     case 233: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case237(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 175:
                     case 47: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+                        case175(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 183:
                     case 151: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case183(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 245:
                     case 244: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case245(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 250: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case250(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 123: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case123(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 95: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case95(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 222: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case222(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 252: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case252(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 249: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case249(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 235: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case235(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 111: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+                        case111(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 63: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+                        case63(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 159: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case159(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 215: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case215(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 246: {
-                        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case246(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 254: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case254(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 253: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case253(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 251: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case251(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 239: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+                        case239(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 127: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
-                        }
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+                        case127(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 191: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
-                        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+                        case191(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 223: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
-                        }
+                        case223(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 247: {
-                        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case247(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                     case 255: {
-                        if (diff(w[3], w[1], trY, trU, trV, trA)) {
-                            dp[dpIdx] = w[4];
-                        }
-                        else {
-                            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
-                        }
-                        if (diff(w[1], w[5], trY, trU, trV, trA)) {
-                            dp[dpIdx + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
-                        }
-                        if (diff(w[7], w[3], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
-                        }
-                        if (diff(w[5], w[7], trY, trU, trV, trA)) {
-                            dp[dpIdx + dpL + 1] = w[4];
-                        }
-                        else {
-                            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
-                        }
+                        case255(dp, dpIdx, dpL, w, yuv, trY, trU, trV, trA);
                         break;
                     }
                 }
@@ -2272,4 +985,2035 @@ public class Hqx_2x extends Hqx {
             dpIdx += dpL;
         }
     }
+    
+    private static final void case0(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case2(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case16(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case64(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case8(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case3(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case6(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case20(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case144(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case192(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case96(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case40(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case9(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case18(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case80(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case72(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case10(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case66(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case24(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case7(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case148(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case224(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case41(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case22(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case208(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case104(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case11(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case19(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case146(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+    }
+    
+    private static final void case84(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+    }
+    
+    private static final void case112(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case200(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+        }
+    }
+    
+    private static final void case73(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case42(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case14(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case67(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case70(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case28(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case152(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case194(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case98(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case56(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case25(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case26(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case82(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case88(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case74(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case27(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case86(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case216(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case106(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case30(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case210(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case120(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case75(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case29(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case198(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case184(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case99(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case57(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case71(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case156(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case226(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case60(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case195(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case102(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case153(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case58(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case83(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case92(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case202(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case78(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case154(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case114(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case89(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case90(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case55(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case182(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+    }
+    
+    private static final void case213(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+    }
+    
+    private static final void case241(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case236(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+        }
+    }
+    
+    private static final void case109(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case171(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case143(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case124(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case203(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case62(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case211(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case118(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case217(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case110(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case155(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case188(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case185(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case61(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case157(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case103(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case227(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case230(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case199(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case220(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case158(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case234(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case242(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case59(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case121(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case87(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case79(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case122(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case94(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case218(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case91(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case229(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case167(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case173(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case181(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case186(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case115(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case93(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case206(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case205(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix6To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case174(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix6To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case179(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix6To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case117(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix6To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case189(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case231(final int[] dp, final int dpIdx, final int dpL, final int[] w) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case126(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case219(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case125(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case221(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[1]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+    }
+    
+    private static final void case207(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+            dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + 1] = Interpolation.Mix4To2To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case238(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To3To3(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[7], w[5]);
+        }
+    }
+    
+    private static final void case190(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+            dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix4To2To1(w[4], w[5], w[7]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case187(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To3To3(w[4], w[3], w[1]);
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[3], w[7]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case243(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix4To2To1(w[4], w[7], w[3]);
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To3To3(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case119(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix4To2To1(w[4], w[1], w[3]);
+            dp[dpIdx + 1] = Interpolation.Mix2To3To3(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case237(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case175(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+    }
+    
+    private static final void case183(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case245(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case250(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case123(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case95(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case222(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case252(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case249(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case235(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[2], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case111(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[5]);
+    }
+    
+    private static final void case63(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[8], w[7]);
+    }
+    
+    private static final void case159(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case215(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[6], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case246(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[0], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case254(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[0]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case253(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[1]);
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[1]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case251(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[2]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case239(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        dp[dpIdx + 1] = Interpolation.Mix3To1(w[4], w[5]);
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[5]);
+    }
+    
+    private static final void case127(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix2To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix2To1To1(w[4], w[7], w[3]);
+        }
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[8]);
+    }
+    
+    private static final void case191(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[7]);
+        dp[dpIdx + dpL + 1] = Interpolation.Mix3To1(w[4], w[7]);
+    }
+    
+    private static final void case223(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix2To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[6]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix2To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case247(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        dp[dpIdx] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        dp[dpIdx + dpL] = Interpolation.Mix3To1(w[4], w[3]);
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
+    
+    private static final void case255(final int[] dp, final int dpIdx, final int dpL, final int[] w, final int[] yuv, final int trY, final int trU, final int trV, final int trA) {
+        if (diffYuv(w[3], w[1], yuv[3], yuv[1], trY, trU, trV, trA)) {
+            dp[dpIdx] = w[4];
+        }
+        else {
+            dp[dpIdx] = Interpolation.Mix14To1To1(w[4], w[3], w[1]);
+        }
+        if (diffYuv(w[1], w[5], yuv[1], yuv[5], trY, trU, trV, trA)) {
+            dp[dpIdx + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + 1] = Interpolation.Mix14To1To1(w[4], w[1], w[5]);
+        }
+        if (diffYuv(w[7], w[3], yuv[7], yuv[3], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL] = Interpolation.Mix14To1To1(w[4], w[7], w[3]);
+        }
+        if (diffYuv(w[5], w[7], yuv[5], yuv[7], trY, trU, trV, trA)) {
+            dp[dpIdx + dpL + 1] = w[4];
+        }
+        else {
+            dp[dpIdx + dpL + 1] = Interpolation.Mix14To1To1(w[4], w[5], w[7]);
+        }
+    }
 }
@@ -25,50 +25,44 @@
 
 package de.janschultke.jpass.hqx;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 public final class RgbYuv {
     
-    private final static AtomicInteger refs = new AtomicInteger();
-    private static final int rgbMask = 0x00FFFFFF;
-    private static int[] RGBtoYUV = new int[0x1000000];
+    private RgbYuv() {}
     
     /**
      * Returns the 24bit YUV equivalent of the provided 24bit RGB color.<b>Any alpha component is dropped</b>
+     * <p>
+     * The conversion is computed on every call. It used to be looked up in a table of all 2^24 colors, which took
+     * 64 MiB, had to be filled before the first use and missed the cache for almost every lookup. The arithmetic
+     * yields exactly the same values.
      *
      * @param rgb a 24bit rgb color
      * @return the corresponding 24bit YUV color
      */
     static int getYuv(final int rgb) {
-        return RGBtoYUV[rgb & rgbMask];
+        final int r = (rgb & 0xFF0000) >> 16;
+        final int g = (rgb & 0x00FF00) >> 8;
+        final int b = rgb & 0x0000FF;
+        final int y = (int) (+0.299d * r + 0.587d * g + 0.114d * b);
+        final int u = (int) (-0.169d * r - 0.331d * g + 0.500d * b) + 128;
+        final int v = (int) (+0.500d * r - 0.419d * g - 0.081d * b) + 128;
+        return (y << 16) | (u << 8) | v;
     }
     
     /**
-     * Calculates the lookup table. <b>MUST</b> be called (only once) before doing anything else
+     * Does nothing, since the conversion no longer uses a lookup table.
+     *
+     * @deprecated there is nothing to initialize
      */
-    public static void init() {
-        if (refs.getAndIncrement() > 0)
-            return;
-        
-        /* Initalize RGB to YUV lookup table */
-        int r, g, b, y, u, v;
-        for (int c = 0x1000000 - 1; c >= 0; c--) {
-            r = (c & 0xFF0000) >> 16;
-            g = (c & 0x00FF00) >> 8;
-            b = c & 0x0000FF;
-            y = (int) (+0.299d * r + 0.587d * g + 0.114d * b);
-            u = (int) (-0.169d * r - 0.331d * g + 0.500d * b) + 128;
-            v = (int) (+0.500d * r - 0.419d * g - 0.081d * b) + 128;
-            RGBtoYUV[c] = (y << 16) | (u << 8) | v;
-        }
-    }
+    @Deprecated
+    public static void init() {}
     
     /**
-     * Releases the reference to the lookup table. <b>The table has to be calculated again for the next lookup.</b>
+     * Does nothing, since the conversion no longer uses a lookup table.
+     *
+     * @deprecated there is nothing to release
      */
-    public static void free() {
-        if (refs.decrementAndGet() == 0)
-            RGBtoYUV = null;
-    }
+    @Deprecated
+    public static void free() {}
     
 }
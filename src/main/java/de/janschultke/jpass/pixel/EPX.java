@@ -0,0 +1,41 @@
+package de.janschultke.jpass.pixel;
+
+/**
+ * Branchless building blocks of the EPX family of supersamplers (AdvMAME, Eagle).
+ * <p>
+ * Every output sub-pixel of these algorithms is either the center pixel or one fixed neighbour, depending on a few
+ * equality tests between neighbours. The tests are packed into a bitmask with {@link #eq(int, int)}, a table maps
+ * the bitmask to one bit per sub-pixel and {@link #select(int, int, int, int)} picks the color, so pixel art with
+ * dithering does not cause any mispredicted branches.
+ */
+final class EPX {
+    
+    private EPX() {}
+    
+    /**
+     * Returns whether two colors are equal, without branching.
+     *
+     * @param a the first color
+     * @param b the second color
+     * @return 1 if the colors are equal, 0 otherwise
+     */
+    static int eq(int a, int b) {
+        final int d = a ^ b;
+        //the sign bit of d | -d is set for every d except 0
+        return ((d | -d) >>> 31) ^ 1;
+    }
+    
+    /**
+     * Selects the color of a sub-pixel, without branching.
+     *
+     * @param center the center pixel
+     * @param neighbour the neighbour which the sub-pixel may take instead
+     * @param bits the table entry of the current pixel
+     * @param bit the bit of the sub-pixel in the table entry
+     * @return the neighbour if the bit is set, the center pixel otherwise
+     */
+    static int select(int center, int neighbour, int bits, int bit) {
+        return center ^ ((center ^ neighbour) & -((bits >>> bit) & 1));
+    }
+    
+}
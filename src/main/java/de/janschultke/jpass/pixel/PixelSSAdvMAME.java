@@ -1,13 +1,82 @@
 package de.janschultke.jpass.pixel;
 
+import de.janschultke.jpass.FlatSpans;
 import eisenwave.torrens.img.Texture;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 public class PixelSSAdvMAME implements PixelSupersampler {
     
+    /*
+      A    --\ 1 2
+    C P B  --/ 3 4
+      D
+    1=P; 2=P; 3=P; 4=P;
+    IF C==A AND C!=D AND A!=B => 1=A
+    IF A==B AND A!=C AND B!=D => 2=B
+    IF D==C AND D!=B AND C!=A => 3=C
+    IF B==D AND B!=A AND D!=C => 4=D
+    */
+    //bit n - 1 is set if sub-pixel n takes its neighbour instead of P,
+    //indexed by C==A, A==B, D==C and B==D in bits 0 to 3
+    private final static byte[] TABLE_2X = new byte[16];
+    
+    /*
+    A B C --\  1 2 3
+    D E F    > 4 5 6
+    G H I --/  7 8 9
+    1=E; 2=E; 3=E; 4=E; 5=E; 6=E; 7=E; 8=E; 9=E;
+    IF D==B AND D!=H AND B!=F => 1=D
+    IF (D==B AND D!=H AND B!=F AND E!=C) OR (B==F AND B!=D AND F!=H AND E!=A) => 2=B
+    IF B==F AND B!=D AND F!=H => 3=F
+    IF (H==D AND H!=F AND D!=B AND E!=A) OR (D==B AND D!=H AND B!=F AND E!=G) => 4=D
+    5=E
+    IF (B==F AND B!=D AND F!=H AND E!=I) OR (F==H AND F!=B AND H!=D AND E!=C) => 6=F
+    IF H==D AND H!=F AND D!=B => 7=D
+    IF (F==H AND F!=B AND H!=D AND E!=G) OR (H==D AND H!=F AND D!=B AND E!=I) => 8=H
+    IF F==H AND F!=B AND H!=D => 9=F
+    */
+    //bit n - 1 is set if sub-pixel n takes its neighbour instead of E,
+    //indexed by D==B, D==H, B==F, F==H, E==A, E==C, E==G and E==I in bits 0 to 7
+    private final static short[] TABLE_3X = new short[256];
+    
+    static {
+        for (int m = 0; m < TABLE_2X.length; m++) {
+            final boolean CA = (m & 1) != 0, AB = (m & 2) != 0, DC = (m & 4) != 0, BD = (m & 8) != 0;
+            TABLE_2X[m] = (byte) (
+                (CA && !DC && !AB? 1 : 0) |
+                (AB && !CA && !BD? 2 : 0) |
+                (DC && !BD && !CA? 4 : 0) |
+                (BD && !AB && !DC? 8 : 0));
+        }
+        
+        for (int m = 0; m < TABLE_3X.length; m++) {
+            final boolean
+                DB = (m & 1) != 0, DH = (m & 2) != 0, BF = (m & 4) != 0, FH = (m & 8) != 0,
+                EA = (m & 16) != 0, EC = (m & 32) != 0, EG = (m & 64) != 0, EI = (m & 128) != 0;
+            TABLE_3X[m] = (short) (
+                (DB && !DH && !BF? 1 : 0) |
+                ((DB && !DH && !BF && !EC) || (BF && !DB && !FH && !EA)? 2 : 0) |
+                (BF && !DB && !FH? 4 : 0) |
+                ((DH && !FH && !DB && !EA) || (DB && !DH && !BF && !EG)? 8 : 0) |
+                ((BF && !DB && !FH && !EI) || (FH && !BF && !DH && !EC)? 32 : 0) |
+                (DH && !FH && !DB? 64 : 0) |
+                ((FH && !BF && !DH && !EG) || (DH && !FH && !DB && !EI)? 128 : 0) |
+                (FH && !BF && !DH? 256 : 0));
+        }
+    }
+    
     private final int factor;
     
+    /**
+     * Constructs a new AdvMAME supersampler.
+     *
+     * @param factor the scaling factor, which is 2, 3 or 4; the latter is AdvMAME2x applied twice, also known as
+     * Scale4x
+     */
     public PixelSSAdvMAME(int factor) {
-        if (factor != 2 && factor != 3)
+        if (factor < 2 || factor > 4)
             throw new IllegalArgumentException("unknown factor: "+factor);
         this.factor = factor;
     }
@@ -17,124 +86,192 @@ public class PixelSSAdvMAME implements PixelSupersampler {
         return factor;
     }
     
-    public int[] apply(int[] in, int[] out, int w, int h) {
-        if (factor == 2) return advMAME2x(in, out, w, h);
-        else return advMAME3x(in, out, w, h);
+    @Override
+    public int getRadius() {
+        return factor == 4? 2 : 1;
     }
     
-    @SuppressWarnings("Duplicates")
-    private int[] advMAME2x(int[] in, int[] out, int w, int h) {
-        final int
-            outW = w * factor,
-            outH = h * factor;
-    
+    public int[] apply(int[] in, int[] out, int w, int h) {
         if (out == null)
-            out = Texture.alloc(outW, outH).getData();
+            out = Texture.alloc(w * factor, h * factor).getData();
+        
+        switch (factor) {
+            case 2: advMAME2x(in, out, w, h); break;
+            case 3: advMAME3x(in, out, w, h); break;
+            default: advMAME4x(in, out, w, h);
+        }
+        return out;
+    }
     
-        final Texture
-            inWrap = Texture.wrap(in, w, h),
-            outWrap = Texture.wrap(out, outW, outH);
+    //the pixels of the outermost rows and columns are only repeated; all rows are processed top to bottom and the
+    //output rows of a source row are written from left to right
+    private static void advMAME2x(int[] in, int[] out, int w, int h) {
+        final int outW = w * 2;
+        final FlatSpans flat = new FlatSpans();
+        
+        for (int y = 0, row = 0, o = 0; y < h; y++, row += w, o += 2 * outW) {
+            if (y == 0 || y == h-1)
+                PixelSSNearest.scaleRow(in, row, w, out, o, 2);
+            else
+                advMAME2xRow(in, row - w, row, row + w, w, out, o, flat);
+        }
+    }
     
-        advMAMEEdge(inWrap, outWrap);
+    /*
+     * AdvMAME2x applied twice in a single pass: the rows of the intermediate 2x image are computed just before they
+     * are needed and kept in a ring of four rows, which always holds the neighbours of the current row. The output
+     * is identical to applying AdvMAME2x to the full intermediate image.
+     */
+    private static void advMAME4x(int[] in, int[] out, int w, int h) {
+        final int midW = w * 2, midH = h * 2, outW = w * 4;
+        //row r of the intermediate image is at (r & 3) * midW
+        final int[] mid = new int[4 * midW];
+        final FlatSpans flat = new FlatSpans();
         
-        /*
-          A    --\ 1 2
-        C P B  --/ 3 4
-          D
-        1=P; 2=P; 3=P; 4=P;
-        IF C==A AND C!=D AND A!=B => 1=A
-        IF A==B AND A!=C AND B!=D => 2=B
-        IF D==C AND D!=B AND C!=A => 3=C
-        IF B==D AND B!=A AND D!=C => 4=D
-        */
-        for (int x = 1; x < w-1; x++) for (int y = 1; y < h-1; y++) {
-            final int
-                x2 = x*factor, y2 = y*factor,
-                A = inWrap.get(x, y-1),
-                B = inWrap.get(x+1, y),
-                C = inWrap.get(x-1, y),
-                D = inWrap.get(x, y+1),
-                P = inWrap.get(x, y);
+        for (int r = 0, produced = 0, o = 0; r < midH; r++, o += 2 * outW) {
+            //both intermediate rows of a source row are written at once, to neighbouring slots of the ring
+            for (; produced <= r + 1 && produced < midH; produced += 2) {
+                final int y = produced / 2, row = y * w, slot = (produced & 3) * midW;
+                if (y == 0 || y == h-1)
+                    PixelSSNearest.scaleRow(in, row, w, mid, slot, 2);
+                else
+                    advMAME2xRow(in, row - w, row, row + w, w, mid, slot, flat);
+            }
+            
+            if (r == 0 || r == midH-1)
+                PixelSSNearest.scaleRow(mid, (r & 3) * midW, midW, out, o, 2);
+            else
+                advMAME2xRow(mid, ((r-1) & 3) * midW, (r & 3) * midW, ((r+1) & 3) * midW, midW, out, o, flat);
+        }
+    }
     
-            outWrap.set(x2,   y2,   C==A && C!=D && A!=B? A : P);
-            outWrap.set(x2+1, y2,   A==B && A!=C && B!=D? B : P);
-            outWrap.set(x2, y2+1,   D==C && D!=B && C!=A? C : P);
-            outWrap.set(x2+1, y2+1, B==D && B!=A && D!=C? D : P);
+    //scales an inner source row to the two output rows at o and o + 2 * w; flat spans are only repeated
+    private static void advMAME2xRow(int[] src, int above, int row, int below, int w, int[] out, int o, FlatSpans flat) {
+        final int outW = w * 2;
+        PixelSSNearest.fillBlock(out, o, outW, 2, src[row]);
+        
+        final int spans = flat.find(src, above, row, below, w);
+        for (int n = 0, x = 1; n <= spans; n++) {
+            final int first = n < spans? flat.first(n) : w-1;
+            advMAME2xRun(src, above, row, below, w, out, o, x, first);
+            if (n < spans) {
+                x = flat.last(n);
+                for (int r = o; r < o + 2 * outW; r += outW)
+                    Arrays.fill(out, r + 2 * first, r + 2 * x, src[row + first]);
+            }
         }
         
-        return out;
+        if (w > 1)
+            PixelSSNearest.fillBlock(out, o + outW - 2, outW, 2, src[row + w-1]);
     }
     
+    //scales the inner pixels [xFirst, xLast) of a source row
     @SuppressWarnings("Duplicates")
-    private int[] advMAME3x(int[] in, int[] out, int w, int h) {
-        final int
-            outW = w * factor,
-            outH = h * factor;
+    private static void advMAME2xRun(
+        int[] src, int above, int row, int below, int w, int[] out, int o, int xFirst, int xLast) {
+        final int outW = w * 2;
         
-        if (out == null)
-            out = Texture.alloc(outW, outH).getData();
+        //slide the middle row to the right
+        int C = src[row + xFirst-1], P = src[row + Math.min(xFirst, w-1)];
         
-        final Texture
-            inWrap = Texture.wrap(in, w, h),
-            outWrap = Texture.wrap(out, outW, outH);
-    
-        advMAMEEdge(inWrap, outWrap);
-    
-        /*
-        A B C --\  1 2 3
-        D E F    > 4 5 6
-        G H I --/  7 8 9
-        1=E; 2=E; 3=E; 4=E; 5=E; 6=E; 7=E; 8=E; 9=E;
-        IF D==B AND D!=H AND B!=F => 1=D
-        IF (D==B AND D!=H AND B!=F AND E!=C) OR (B==F AND B!=D AND F!=H AND E!=A) => 2=B
-        IF B==F AND B!=D AND F!=H => 3=F
-        IF (H==D AND H!=F AND D!=B AND E!=A) OR (D==B AND D!=H AND B!=F AND E!=G) => 4=D
-        5=E
-        IF (B==F AND B!=D AND F!=H AND E!=I) OR (F==H AND F!=B AND H!=D AND E!=C) => 6=F
-        IF H==D AND H!=F AND D!=B => 7=D
-        IF (F==H AND F!=B AND H!=D AND E!=G) OR (H==D AND H!=F AND D!=B AND E!=I) => 8=H
-        IF F==H AND F!=B AND H!=D => 9=F
-        */
-        for (int x = 1; x < w-1; x++) for (int y = 1; y < h-1; y++) {
+        for (int x = xFirst, x2 = o + 2 * xFirst; x < xLast; x++, x2 += 2) {
             final int
-                x2 = x*factor, y2 = y*factor,
-                A = inWrap.get(x-1, y-1), B = inWrap.get(x, y-1), C = inWrap.get(x+1, y-1),
-                D = inWrap.get(x-1, y),   E = inWrap.get(x, y),   F = inWrap.get(x+1, y),
-                G = inWrap.get(x-1, y+1), H = inWrap.get(x, y+1), I = inWrap.get(x+1, y+1);
+                A = src[above + x],
+                B = src[row + x+1],
+                D = src[below + x];
             
-            outWrap.set(  x2,   y2, D==B && D!=H && B!=F? D : E);
-            outWrap.set(x2+1,   y2, (D==B && D!=H && B!=F && E!=C) || (B==F && B!=D && F!=H && E!=A)? B : E);
-            outWrap.set(x2+2,   y2, B==F && B!=D && F!=H? F : E);
+            final int t = TABLE_2X[EPX.eq(C, A) | EPX.eq(A, B) << 1 | EPX.eq(D, C) << 2 | EPX.eq(B, D) << 3];
+            out[x2]            = EPX.select(P, A, t, 0);
+            out[x2 + 1]        = EPX.select(P, B, t, 1);
+            out[x2 + outW]     = EPX.select(P, C, t, 2);
+            out[x2 + outW + 1] = EPX.select(P, D, t, 3);
             
-            outWrap.set(  x2, y2+1, (H==D && H!=F && D!=B && E!=A) || (D==B && D!=H && B!=F && E!=G)? D : E);
-            outWrap.set(x2+1, y2+1, E);
-            outWrap.set(x2+2, y2+1, (B==F && B!=D && F!=H && E!=I) || (F==H && F!=B && H!=D && E!=C)? F : E);
-    
-            outWrap.set(  x2, y2+2, H==D && H!=F && D!=B? D : E);
-            outWrap.set(x2+1, y2+2, (F==H && F!=B && H!=D && E!=G) || (H==D && H!=F && D!=B && E!=I)? H : E);
-            outWrap.set(x2+2, y2+2, F==H && F!=B && H!=D? F : E);
+            C = P;
+            P = B;
         }
+    }
+    
+    private static void advMAME3x(int[] in, int[] out, int w, int h) {
+        final int outW = w * 3;
+        final FlatSpans flat = new FlatSpans();
         
-        return out;
+        for (int y = 0; y < h; y++) {
+            final int row = y * w, o1 = 3 * y * outW;
+            
+            if (y == 0 || y == h-1) {
+                PixelSSNearest.scaleRow(in, row, w, out, o1, 3);
+                continue;
+            }
+            
+            final int above = row - w, below = row + w;
+            PixelSSNearest.fillBlock(out, o1, outW, 3, in[row]);
+            
+            final int spans = flat.find(in, above, row, below, w);
+            for (int n = 0, x = 1; n <= spans; n++) {
+                final int first = n < spans? flat.first(n) : w-1;
+                advMAME3xRun(in, above, row, below, w, out, o1, x, first);
+                if (n < spans) {
+                    x = flat.last(n);
+                    for (int o = o1; o < o1 + 3 * outW; o += outW)
+                        Arrays.fill(out, o + 3 * first, o + 3 * x, in[row + first]);
+                }
+            }
+            
+            if (w > 1)
+                PixelSSNearest.fillBlock(out, o1 + outW - 3, outW, 3, in[row + w-1]);
+        }
     }
     
-    private void advMAMEEdge(Texture in, Texture out) {
-        in.forEdge((x,y) -> {
-            final int
-                x2 = x*factor, y2 = y*factor,
-                rgb = in.get(x, y);
+    //scales the inner pixels [xFirst, xLast) of a source row to the three output rows at o1
+    @SuppressWarnings("Duplicates")
+    private static void advMAME3xRun(
+        int[] in, int above, int row, int below, int w, int[] out, int o1, int xFirst, int xLast) {
+        final int outW = w * 3, o2 = o1 + outW, o3 = o2 + outW;
         
-            for (int i = 0; i < factor; i++)
-                for (int j = 0; j < factor; j++)
-                    out.set(x2+i, y2+j, rgb);
-        });
+        //slide the 3x3 neighbourhood to the right
+        final int x0 = xFirst-1, x1 = Math.min(xFirst, w-1);
+        int
+            A = in[above + x0], B = in[above + x1],
+            D = in[row + x0],   E = in[row + x1],
+            G = in[below + x0], H = in[below + x1];
+        
+        for (int x = xFirst, x2 = 3 * xFirst; x < xLast; x++, x2 += 3) {
+            final int
+                C = in[above + x+1],
+                F = in[row + x+1],
+                I = in[below + x+1];
+            
+            final int t = TABLE_3X[
+                EPX.eq(D, B) | EPX.eq(D, H) << 1 | EPX.eq(B, F) << 2 | EPX.eq(F, H) << 3 |
+                EPX.eq(E, A) << 4 | EPX.eq(E, C) << 5 | EPX.eq(E, G) << 6 | EPX.eq(E, I) << 7];
+            
+            out[o1 + x2]     = EPX.select(E, D, t, 0);
+            out[o1 + x2 + 1] = EPX.select(E, B, t, 1);
+            out[o1 + x2 + 2] = EPX.select(E, F, t, 2);
+            
+            out[o2 + x2]     = EPX.select(E, D, t, 3);
+            out[o2 + x2 + 1] = E;
+            out[o2 + x2 + 2] = EPX.select(E, F, t, 5);
+            
+            out[o3 + x2]     = EPX.select(E, D, t, 6);
+            out[o3 + x2 + 1] = EPX.select(E, H, t, 7);
+            out[o3 + x2 + 2] = EPX.select(E, F, t, 8);
+            
+            A = B; B = C;
+            D = E; E = F;
+            G = H; H = I;
+        }
     }
     
+    /**
+     * Applies this supersampler several times, as a {@link PixelSSChain}.
+     *
+     * @param in the input texture
+     * @param times the number of times
+     * @return the output texture
+     */
     public Texture apply(Texture in, int times) {
-        Texture out = in;
-        for (int i = 0; i < times; i++)
-            out = apply(out);
-        return out;
+        return times <= 0? in : new PixelSSChain(Collections.nCopies(times, this)).apply(in);
     }
 
 }
@@ -0,0 +1,158 @@
+package de.janschultke.jpass.pixel;
+
+import eisenwave.torrens.img.Texture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Supersampler which applies several supersamplers one after another, e.g. HQ2x and then xBRZ 3x for 6x. Its factor
+ * is the product of their factors.
+ * <p>
+ * Instead of scaling the entire image by every stage, the image is split into tiles which run through all stages on
+ * their own, so intermediate images only ever exist for a single tile, in buffers which every thread reuses. Each
+ * tile is extended by the combined neighbourhood radius of the stages, like the row bands of
+ * {@link PixelSSParallel}, so the output is identical to applying the stages to the entire image. If a stage has
+ * no bounded neighbourhood, the stages are applied to the entire image instead.
+ */
+public class PixelSSChain implements PixelSupersampler {
+    
+    private final PixelSupersampler[] stages;
+    private final int factor, radius;
+    
+    //per thread, the tile input followed by the outputs of all stages; a tile takes them out while it runs, since
+    //a parallel stage may run another tile on the same thread while it waits for its own bands
+    private final ThreadLocal<int[][]> buffers;
+    
+    public PixelSSChain(@NotNull List<? extends PixelSupersampler> stages) {
+        this(stages.toArray(new PixelSupersampler[0]));
+    }
+    
+    /**
+     * Constructs a new chain of supersamplers.
+     *
+     * @param stages the supersamplers in the order in which they are applied
+     */
+    public PixelSSChain(@NotNull PixelSupersampler... stages) {
+        if (stages.length == 0)
+            throw new IllegalArgumentException("chain must have at least one stage");
+        this.stages = stages.clone();
+        
+        int factor = 1;
+        for (PixelSupersampler stage : stages)
+            factor *= stage.getFactor();
+        this.factor = factor;
+        
+        //a radius of r output pixels of a stage is ceil(r / f) input pixels, on top of which come the input pixels
+        //of the stage itself
+        int radius = 0;
+        for (int i = stages.length - 1; i >= 0 && radius >= 0; i--) {
+            final int stageRadius = stages[i].getRadius();
+            final int stageFactor = stages[i].getFactor();
+            radius = stageRadius < 0? -1 : stageRadius + (radius + stageFactor - 1) / stageFactor;
+        }
+        this.radius = radius;
+        
+        this.buffers = ThreadLocal.withInitial(() -> new int[stages.length + 1][0]);
+    }
+    
+    @Override
+    public int getFactor() {
+        return factor;
+    }
+    
+    @Override
+    public int getRadius() {
+        return radius;
+    }
+    
+    @Override
+    public boolean isParallel() {
+        return radius >= 0;
+    }
+    
+    public PixelSupersampler[] getStages() {
+        return stages.clone();
+    }
+    
+    @Override
+    public int[] apply(@NotNull int[] in, @Nullable int[] out, int w, int h) {
+        if (out == null)
+            out = Texture.alloc(w * factor, h * factor).getData();
+        
+        final int side = TileTask.tileSide(factor);
+        if (radius < 0 || w <= side && h <= side) {
+            int[] data = in;
+            for (int i = 0; i < stages.length; i++) {
+                data = stages[i].apply(data, i == stages.length - 1? out : null, w, h);
+                w *= stages[i].getFactor();
+                h *= stages[i].getFactor();
+            }
+            return out;
+        }
+        
+        final int[] trg = out;
+        final int width = w, height = h;
+        TileTask.apply(
+            (xFirst, xLast, yFirst, yLast) -> applyTile(in, trg, width, height, xFirst, xLast, yFirst, yLast),
+            w, h, side, side);
+        
+        return out;
+    }
+    
+    private void applyTile(int[] in, int[] out, int w, int h, int xFirst, int xLast, int yFirst, int yLast) {
+        final int
+            haloX = Math.max(xFirst - radius, 0),
+            haloY = Math.max(yFirst - radius, 0),
+            tileW = Math.min(xLast + radius, w) - haloX,
+            tileH = Math.min(yLast + radius, h) - haloY;
+        
+        final int[][] buffers = this.buffers.get();
+        this.buffers.remove();
+        try {
+            applyTile(in, out, w, h, xFirst, xLast, yFirst, yLast, haloX, haloY, tileW, tileH, buffers);
+        } finally {
+            this.buffers.set(buffers);
+        }
+    }
+    
+    private void applyTile(
+        int[] in, int[] out, int w, int h,
+        int xFirst, int xLast, int yFirst, int yLast,
+        int haloX, int haloY, int tileW, int tileH,
+        int[][] buffers) {
+        int[] data = buffer(buffers, 0, tileW * tileH);
+        for (int y = 0; y < tileH; y++)
+            System.arraycopy(in, (haloY + y) * w + haloX, data, y * tileW, tileW);
+        
+        int dataW = tileW, dataH = tileH;
+        for (int i = 0; i < stages.length; i++) {
+            final int stageFactor = stages[i].getFactor();
+            final int[] stageOut = buffer(buffers, i + 1, dataW * stageFactor * dataH * stageFactor);
+            data = stages[i].apply(data, stageOut, dataW, dataH);
+            dataW *= stageFactor;
+            dataH *= stageFactor;
+        }
+        
+        // only the blocks of the tile itself are copied, not those of the halo
+        final int
+            outW = w * factor,
+            columns = (xLast - xFirst) * factor,
+            dataX = (xFirst - haloX) * factor,
+            dataY = (yFirst - haloY) * factor;
+        for (int y = 0; y < (yLast - yFirst) * factor; y++)
+            System.arraycopy(
+                data, (dataY + y) * dataW + dataX,
+                out, (yFirst * factor + y) * outW + xFirst * factor,
+                columns);
+    }
+    
+    //buffers are only reused at their exact length, since supersamplers may rely on the length of their input
+    private static int[] buffer(int[][] buffers, int index, int length) {
+        if (buffers[index].length != length)
+            buffers[index] = new int[length];
+        return buffers[index];
+    }
+    
+}
@@ -2,6 +2,8 @@ package de.janschultke.jpass.pixel;
 
 import eisenwave.torrens.img.Texture;
 
+import java.util.Collections;
+
 @SuppressWarnings("Duplicates")
 public final class PixelSSEagle implements PixelSupersampler {
     
@@ -10,29 +12,17 @@ public final class PixelSSEagle implements PixelSupersampler {
         return 2;
     }
     
+    @Override
+    public int getRadius() {
+        return 1;
+    }
+    
     @Override
     public int[] apply(int[] in, int[] out, int w, int h) {
-        final int
-            outW = w * 2,
-            outH = h * 2;
+        final int outW = w * 2;
         
         if (out == null)
-            out = Texture.alloc(outW, outH).getData();
-    
-        final Texture
-            inWrap = Texture.wrap(in, w, h),
-            outWrap = Texture.wrap(out, outW, outH);
-        
-        Texture.wrap(in, w, h).forEdge((x,y) -> {
-            final int
-                x2 = x*2, y2 = y*2,
-                rgb = inWrap.get(x, y);
-    
-            outWrap.set(  x2,   y2, rgb);
-            outWrap.set(x2+1,   y2, rgb);
-            outWrap.set(  x2, y2+1, rgb);
-            outWrap.set(x2+1, y2+1, rgb);
-        });
+            out = Texture.alloc(outW, h * 2).getData();
         
         /*
         first:        |Then
@@ -44,27 +34,58 @@ public final class PixelSSEagle implements PixelSupersampler {
               | IF V==X==Y => 3=X
               | IF W==Z==Y => 4=Z
         */
-        for (int x = 1; x < w-1; x++) for (int y = 1; y < h-1; y++) {
-            final int
-                x2 = x*2, y2 = y*2,
-                S = inWrap.get(x-1, y-1), T = inWrap.get(x, y-1), U = inWrap.get(x+1, y-1),
-                V = inWrap.get(x-1, y),   C = inWrap.get(x, y),   W = inWrap.get(x+1, y),
-                X = inWrap.get(x-1, y+1), Y = inWrap.get(x, y+1), Z = inWrap.get(x+1, y+1);
-    
-            outWrap.set(x2,   y2,   S==V && S==T? S : C);
-            outWrap.set(x2+1, y2,   U==T && U==W? U : C);
-            outWrap.set(x2, y2+1,   X==V && X==Y? X : C);
-            outWrap.set(x2+1, y2+1, Z==W && Z==Y? Z : C);
+        for (int y = 0; y < h; y++) {
+            final int row = y * w, o1 = 2 * y * outW, o2 = o1 + outW;
+            
+            //the pixels of the outermost rows and columns are only repeated
+            if (y == 0 || y == h-1) {
+                PixelSSNearest.scaleRow(in, row, w, out, o1, 2);
+                continue;
+            }
+            
+            final int above = row - w, below = row + w;
+            PixelSSNearest.fillBlock(out, o1, outW, 2, in[row]);
+            
+            //slide the 3x3 neighbourhood to the right
+            final int x1 = Math.min(1, w-1);
+            int
+                S = in[above], T = in[above + x1],
+                V = in[row],   C = in[row + x1],
+                X = in[below], Y = in[below + x1];
+            
+            for (int x = 1, x2 = 2; x < w-1; x++, x2 += 2) {
+                final int
+                    U = in[above + x+1],
+                    W = in[row + x+1],
+                    Z = in[below + x+1];
+                
+                //every sub-pixel depends on two tests of its own, so no table is needed to combine them
+                out[o1 + x2]     = EPX.select(C, S, EPX.eq(S, V) & EPX.eq(S, T), 0);
+                out[o1 + x2 + 1] = EPX.select(C, U, EPX.eq(U, T) & EPX.eq(U, W), 0);
+                out[o2 + x2]     = EPX.select(C, X, EPX.eq(X, V) & EPX.eq(X, Y), 0);
+                out[o2 + x2 + 1] = EPX.select(C, Z, EPX.eq(Z, W) & EPX.eq(Z, Y), 0);
+                
+                S = T; T = U;
+                V = C; C = W;
+                X = Y; Y = Z;
+            }
+            
+            if (w > 1)
+                PixelSSNearest.fillBlock(out, o1 + outW - 2, outW, 2, in[row + w-1]);
         }
         
         return out;
     }
     
+    /**
+     * Applies this supersampler several times, as a {@link PixelSSChain}.
+     *
+     * @param in the input texture
+     * @param times the number of times
+     * @return the output texture
+     */
     public Texture apply(Texture in, int times) {
-        Texture out = in;
-        for (int i = 0; i < times; i++)
-            out = apply(out);
-        return out;
+        return times <= 0? in : new PixelSSChain(Collections.nCopies(times, this)).apply(in);
     }
     
 }
@@ -4,17 +4,28 @@ import eisenwave.torrens.img.Texture;
 import de.janschultke.jpass.hqx.Hqx_2x;
 import de.janschultke.jpass.hqx.Hqx_3x;
 import de.janschultke.jpass.hqx.Hqx_4x;
-import de.janschultke.jpass.hqx.RgbYuv;
 
 public class PixelSSHQx implements PixelSupersampler {
     
     private final HQxMethod method;
     private final int factor;
+    private final boolean parallel;
     
     public PixelSSHQx(int factor) {
+        this(factor, false);
+    }
+    
+    /**
+     * Constructs a new HQx supersampler.
+     *
+     * @param factor the scaling factor
+     * @param parallel whether large images should be split into row bands which are scaled concurrently; the output
+     * is identical to the serial output either way
+     */
+    public PixelSSHQx(int factor, boolean parallel) {
         this.method = HQxMethod.valueOf(factor);
         this.factor = factor;
-        RgbYuv.init();
+        this.parallel = parallel;
     }
     
     @Override
@@ -22,23 +33,36 @@ public class PixelSSHQx implements PixelSupersampler {
         return factor;
     }
     
+    @Override
+    public int getRadius() {
+        return 1;
+    }
+    
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+    
     @Override
     public int[] apply(int[] in, int[] out, int w, int h) {
         if (out == null)
             out = Texture.alloc(w*factor, h*factor).getData();
         
-        method.invoke(in, out, w, h);
+        if (parallel) {
+            final int[] dp = out;
+            RowBandTask.apply(
+                (yFirst, yLast) -> method.invoke(in, dp, w, h, yFirst, yLast),
+                w, h);
+        }
+        else {
+            method.invoke(in, out, w, h, 0, h);
+        }
         
         return out;
     }
     
-    @Override
-    protected void finalize() throws Throwable {
-        RgbYuv.free();
-    }
-    
     private static interface HQxMethod {
-        abstract void invoke(int[] in, int[] out, int w, int h);
+        abstract void invoke(int[] in, int[] out, int w, int h, int yFirst, int yLast);
         
         static HQxMethod valueOf(int factor) {
             switch (factor) {
@@ -20,4 +20,9 @@ public class PixelSSIdentity implements PixelSupersampler {
         return 1;
     }
     
+    @Override
+    public int getRadius() {
+        return 0;
+    }
+    
 }
@@ -1,5 +1,6 @@
 package de.janschultke.jpass.pixel;
 
+import de.janschultke.jpass.simd.SIMD;
 import eisenwave.torrens.img.Texture;
 
 public class PixelSSNearest implements PixelSupersampler {
@@ -17,27 +18,56 @@ public class PixelSSNearest implements PixelSupersampler {
         return factor;
     }
     
+    @Override
+    public int getRadius() {
+        return 0;
+    }
+    
     @Override
     public int[] apply(int[] in, int[] out, int w, int h) {
-        final int
-            outW = w * factor,
-            outH = h * factor;
+        final int outW = w * factor;
         
         if (out == null)
-            out = Texture.alloc(outW, outH).getData();
+            out = Texture.alloc(outW, h * factor).getData();
         
-        final Texture
-            inWrap = Texture.wrap(in, w, h),
-            outWrap = Texture.wrap(out, outW, outH);
+        for (int y = 0, srcIdx = 0, outIdx = 0; y < h; y++, srcIdx += w, outIdx += factor * outW)
+            scaleRow(in, srcIdx, w, out, outIdx, factor);
+        
+        return out;
+    }
     
-        for (int x = 0; x < outW; x++) for (int y = 0; y < outH; y++) {
-            final int rgb = inWrap.get(
-                x * w / outW,
-                y * h / outH);
-            outWrap.set(x, y, rgb);
-        }
+    /**
+     * Scales a single source row to <code>factor</code> output rows. The first output row is built once and then
+     * copied for the vertical repeats.
+     *
+     * @param in the source data
+     * @param srcIdx the index of the first pixel of the source row
+     * @param w the source width
+     * @param out the output data
+     * @param outIdx the index of the first pixel of the first output row
+     * @param factor the scaling factor
+     */
+    static void scaleRow(int[] in, int srcIdx, int w, int[] out, int outIdx, int factor) {
+        final int outW = w * factor;
+        SIMD.expandRow(in, srcIdx, w, out, outIdx, factor);
+        
+        for (int j = 1; j < factor; j++)
+            System.arraycopy(out, outIdx, out, outIdx + j * outW, outW);
+    }
     
-        return out;
+    /**
+     * Fills the <code>factor * factor</code> output block of a single source pixel.
+     *
+     * @param out the output data
+     * @param outIdx the index of the top left pixel of the block
+     * @param outW the output width
+     * @param factor the scaling factor
+     * @param rgb the color of the source pixel
+     */
+    static void fillBlock(int[] out, int outIdx, int outW, int factor, int rgb) {
+        for (int j = 0; j < factor; j++, outIdx += outW)
+            for (int i = 0; i < factor; i++)
+                out[outIdx + i] = rgb;
     }
     
 }
@@ -0,0 +1,83 @@
+package de.janschultke.jpass.pixel;
+
+import eisenwave.torrens.img.Texture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Decorator which makes any {@link PixelSupersampler} with a bounded neighbourhood scale with the number of cores.
+ * <p>
+ * The image is split into row bands. Every band is extended by {@link PixelSupersampler#getRadius()} rows on both
+ * sides, scaled by the wrapped supersampler on its own, and the rows of the scaled band which do not belong to the
+ * halo are copied into the shared output array. Since every output block only depends on input pixels within the
+ * radius, the output is identical to that of the wrapped supersampler.
+ */
+public class PixelSSParallel implements PixelSupersampler {
+    
+    private final PixelSupersampler sampler;
+    private final int radius;
+    
+    public PixelSSParallel(@NotNull PixelSupersampler sampler) {
+        this.radius = sampler.getRadius();
+        if (radius < 0)
+            throw new IllegalArgumentException(
+                "sampler has no bounded neighbourhood: " + sampler.getClass().getSimpleName());
+        this.sampler = sampler;
+    }
+    
+    @Override
+    public int getFactor() {
+        return sampler.getFactor();
+    }
+    
+    @Override
+    public int getRadius() {
+        return radius;
+    }
+    
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+    
+    public PixelSupersampler getSampler() {
+        return sampler;
+    }
+    
+    @Override
+    public int[] apply(@NotNull int[] in, @Nullable int[] out, int w, int h) {
+        final int factor = getFactor();
+        if (out == null)
+            out = Texture.alloc(w * factor, h * factor).getData();
+        
+        final int[] trg = out;
+        RowBandTask.apply((yFirst, yLast) -> applyBand(in, trg, w, h, yFirst, yLast), w, h);
+        
+        return out;
+    }
+    
+    private void applyBand(int[] in, int[] out, int w, int h, int yFirst, int yLast) {
+        if (yFirst == 0 && yLast == h) {
+            sampler.apply(in, out, w, h);
+            return;
+        }
+        
+        final int
+            factor = getFactor(),
+            outW = w * factor,
+            haloFirst = Math.max(yFirst - radius, 0),
+            haloLast = Math.min(yLast + radius, h);
+        
+        // rows of an image are contiguous, so both the band and its output are single ranges of the arrays
+        final int[] bandIn = Arrays.copyOfRange(in, haloFirst * w, haloLast * w);
+        final int[] bandOut = sampler.apply(bandIn, null, w, haloLast - haloFirst);
+        
+        System.arraycopy(
+            bandOut, (yFirst - haloFirst) * factor * outW,
+            out, yFirst * factor * outW,
+            (yLast - yFirst) * factor * outW);
+    }
+    
+}
@@ -10,9 +10,46 @@ public class PixelSSxBRZ implements PixelSupersampler {
     private final static XBRZConfig CONFIG = new XBRZConfig();
     
     private final XBRZScaleSize scaleSize;
+    private final Slicing slicing;
+    private final XBRZConfig config;
     
     public PixelSSxBRZ(int factor) {
+        this(factor, Slicing.NONE);
+    }
+    
+    /**
+     * Constructs a new xBRZ supersampler.
+     *
+     * @param factor the scaling factor
+     * @param parallel whether large images should be split into row bands which are scaled concurrently; the output
+     * is identical to the serial output either way
+     */
+    public PixelSSxBRZ(int factor, boolean parallel) {
+        this(factor, parallel? Slicing.ROWS : Slicing.NONE);
+    }
+    
+    /**
+     * Constructs a new xBRZ supersampler.
+     *
+     * @param factor the scaling factor
+     * @param slicing how large images are split up for concurrent scaling; the output is identical to the serial
+     * output either way
+     */
+    public PixelSSxBRZ(int factor, Slicing slicing) {
+        this(factor, slicing, CONFIG);
+    }
+    
+    /**
+     * Constructs a new xBRZ supersampler.
+     *
+     * @param factor the scaling factor
+     * @param slicing how large images are split up for concurrent scaling
+     * @param config the xBRZ config, which must not be modified afterwards
+     */
+    public PixelSSxBRZ(int factor, Slicing slicing, XBRZConfig config) {
         this.scaleSize = XBRZScaleSize.valueOf(factor);
+        this.slicing = slicing;
+        this.config = config;
     }
     
     @Override
@@ -20,14 +57,57 @@ public class PixelSSxBRZ implements PixelSupersampler {
         return scaleSize.size;
     }
     
+    @Override
+    public int getRadius() {
+        return 2;
+    }
+    
+    @Override
+    public boolean isParallel() {
+        return slicing != Slicing.NONE;
+    }
+    
+    public Slicing getSlicing() {
+        return slicing;
+    }
+    
     @Override
     public int[] apply(int[] in, int[] out, int w, int h) {
         if (out == null)
             out = Texture.alloc(w*scaleSize.size, h*scaleSize.size).getData();
         
-        new XBRZ().scaleImage(scaleSize, in, out, w, h, CONFIG);
+        final int[] trg = out;
+        switch ((long) w * h < RowBandTask.MIN_PARALLEL_PIXELS? Slicing.NONE : slicing) {
+            case ROWS: {
+                RowBandTask.apply(
+                    (yFirst, yLast) -> XBRZ.scale(scaleSize, in, trg, w, h, config, yFirst, yLast),
+                    w, h);
+                break;
+            }
+            case TILES: {
+                final int side = TileTask.tileSide(scaleSize.size);
+                TileTask.apply(
+                    (xFirst, xLast, yFirst, yLast) ->
+                        XBRZ.scale(scaleSize, in, trg, w, h, config, xFirst, xLast, yFirst, yLast),
+                    w, h, side, side);
+                break;
+            }
+            default: XBRZ.scale(scaleSize, in, trg, w, h, config);
+        }
         
         return out;
     }
     
+    public static enum Slicing {
+        /** The image is scaled in one piece. */
+        NONE,
+        /** The image is split into full-width row bands. */
+        ROWS,
+        /**
+         * The image is split into tiles whose target data fits into the L2 cache; preferable for very wide images at
+         * large scales, where a single target row band would exceed the cache.
+         */
+        TILES
+    }
+    
 }
@@ -0,0 +1,215 @@
+package de.janschultke.jpass.pixel;
+
+import de.janschultke.jpass.xbrz.XBRZ;
+import de.janschultke.jpass.xbrz.XBRZBlendPlane;
+import de.janschultke.jpass.xbrz.XBRZConfig;
+import de.janschultke.jpass.xbrz.XBRZScaleSize;
+import eisenwave.torrens.img.Texture;
+
+import java.util.Arrays;
+
+/**
+ * Supersampler which renders xBRZ at a larger scale than its output and box-filters the result down to the output
+ * scale, e.g. from 4x to 2x for smooth edges at 2x.
+ * <p>
+ * Rendering and filtering are fused: the blend plane of the image is analyzed once, then a few rows at a time are
+ * rendered into a buffer which fits into the L2 cache and filtered straight into the output. The rendered image is
+ * never allocated as a whole, only the blend plane of 2 bytes per source pixel.
+ * <p>
+ * The output block of a source pixel covers exactly the rendered block of that pixel, so the filter is exact for
+ * any pair of factors: rendered pixels which straddle two output pixels are split up by their area of overlap.
+ * Colors are averaged with premultiplied alpha, so transparent pixels do not bleed into their neighbours.
+ */
+public class PixelSSxBRZBox implements PixelSupersampler {
+    
+    private final static XBRZConfig CONFIG = new XBRZConfig();
+    
+    private final XBRZScaleSize renderSize;
+    private final int factor;
+    private final boolean parallel;
+    private final XBRZConfig config;
+    
+    //the rendered pixels which overlap output pixel (u, v) of a block are in row tapRows[v * factor + u][t] and
+    //column tapColumns[v * factor + u][t] of the rendered block, and their area of overlap is
+    //tapWeights[v * factor + u][t], in 1/factor² pixels
+    private final int[][] tapRows, tapColumns, tapWeights;
+    
+    public PixelSSxBRZBox(int renderFactor, int factor) {
+        this(renderFactor, factor, false);
+    }
+    
+    /**
+     * Constructs a new box-filtered xBRZ supersampler.
+     *
+     * @param renderFactor the scaling factor at which xBRZ is rendered
+     * @param factor the scaling factor of the output, at most the render factor
+     * @param parallel whether large images should be split into row bands which are processed concurrently; the
+     * output is identical to the serial output either way
+     */
+    public PixelSSxBRZBox(int renderFactor, int factor, boolean parallel) {
+        this(renderFactor, factor, parallel, CONFIG);
+    }
+    
+    /**
+     * Constructs a new box-filtered xBRZ supersampler.
+     *
+     * @param renderFactor the scaling factor at which xBRZ is rendered
+     * @param factor the scaling factor of the output, at most the render factor
+     * @param parallel whether large images should be split into row bands which are processed concurrently
+     * @param config the xBRZ config, which must not be modified afterwards
+     */
+    public PixelSSxBRZBox(int renderFactor, int factor, boolean parallel, XBRZConfig config) {
+        if (factor < 1 || factor > renderFactor)
+            throw new IllegalArgumentException("factor must be in [1, " + renderFactor + "]: " + factor);
+        this.renderSize = XBRZScaleSize.valueOf(renderFactor);
+        this.factor = factor;
+        this.parallel = parallel;
+        this.config = config;
+        
+        //in units of 1/factor pixels, output column u of a block is [u * renderFactor, (u + 1) * renderFactor)
+        final int[][] weights = new int[factor][renderFactor];
+        for (int u = 0; u < factor; u++)
+            for (int k = 0; k < renderFactor; k++)
+                weights[u][k] = Math.max(0,
+                    Math.min((k + 1) * factor, (u + 1) * renderFactor) - Math.max(k * factor, u * renderFactor));
+        
+        this.tapRows = new int[factor * factor][];
+        this.tapColumns = new int[factor * factor][];
+        this.tapWeights = new int[factor * factor][];
+        for (int v = 0; v < factor; v++) {
+            for (int u = 0; u < factor; u++) {
+                final int[]
+                    rows = new int[renderFactor * renderFactor],
+                    columns = new int[rows.length],
+                    tapWeights = new int[rows.length];
+                int taps = 0;
+                for (int l = 0; l < renderFactor; l++) {
+                    for (int k = 0; k < renderFactor; k++) {
+                        if (weights[v][l] != 0 && weights[u][k] != 0) {
+                            rows[taps] = l;
+                            columns[taps] = k;
+                            tapWeights[taps++] = weights[v][l] * weights[u][k];
+                        }
+                    }
+                }
+                this.tapRows[v * factor + u] = Arrays.copyOf(rows, taps);
+                this.tapColumns[v * factor + u] = Arrays.copyOf(columns, taps);
+                this.tapWeights[v * factor + u] = Arrays.copyOf(tapWeights, taps);
+            }
+        }
+    }
+    
+    @Override
+    public int getFactor() {
+        return factor;
+    }
+    
+    public int getRenderFactor() {
+        return renderSize.size;
+    }
+    
+    @Override
+    public int getRadius() {
+        return 2;
+    }
+    
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+    
+    @Override
+    public int[] apply(int[] in, int[] out, int w, int h) {
+        if (out == null)
+            out = Texture.alloc(w * factor, h * factor).getData();
+        
+        final int[] trg = out;
+        final XBRZBlendPlane plane = new XBRZBlendPlane(w, h);
+        if (parallel) {
+            RowBandTask.apply((yFirst, yLast) -> XBRZ.analyze(in, w, h, config, plane, yFirst, yLast), w, h);
+            RowBandTask.apply((yFirst, yLast) -> applyBand(in, trg, w, h, plane, yFirst, yLast), w, h);
+        }
+        else {
+            XBRZ.analyze(in, w, h, config, plane, 0, h);
+            applyBand(in, trg, w, h, plane, 0, h);
+        }
+        
+        return out;
+    }
+    
+    private void applyBand(int[] in, int[] out, int w, int h, XBRZBlendPlane plane, int yFirst, int yLast) {
+        final int
+            render = renderSize.size,
+            renderRowBytes = 4 * w * render * render,
+            chunkRows = Math.max(1, TileTask.TILE_BYTES / Math.max(renderRowBytes, 1)),
+            outW = w * factor;
+        
+        final int[] rendered = new int[chunkRows * w * render * render];
+        
+        //the taps of output pixel (u, v) of a block, relative to the top left of the rendered block
+        final int[][] offsets = new int[factor * factor][];
+        for (int n = 0; n < offsets.length; n++) {
+            offsets[n] = new int[tapRows[n].length];
+            for (int t = 0; t < offsets[n].length; t++)
+                offsets[n][t] = tapRows[n][t] * w * render + tapColumns[n][t];
+        }
+        
+        for (int y = yFirst; y < yLast; y += chunkRows) {
+            final int yEnd = Math.min(y + chunkRows, yLast);
+            XBRZ.renderSlice(renderSize, in, rendered, w, h, config, plane, y, yEnd);
+            
+            for (int r = 0; r < yEnd - y; r++)
+                filterRow(rendered, r * w * render * render, w, out, (y + r) * factor * outW, offsets);
+        }
+    }
+    
+    /*
+     * Filters the rendered rows of a single source row into its output rows. The taps of an output pixel are at fixed
+     * offsets from the rendered block of its source pixel, so each output pixel is summed up in registers. The
+     * premultiplied sums fit into an int since the weights of an output pixel add up to render² and every
+     * premultiplied channel is at most 255².
+     */
+    private void filterRow(int[] rendered, int renderIdx, int w, int[] out, int outIdx, int[][] tapOffsets) {
+        final int
+            render = renderSize.size,
+            outW = w * factor,
+            norm = render * render,
+            opaque = 255 * norm;
+        //dividing by the alpha sum of opaque pixels is a multiplication instead, which is exact since every sum is
+        //less than 256 * opaque and 256 * opaque² is less than 2^48
+        final long opaqueReciprocal = ((1L << 48) + opaque - 1) / opaque;
+        
+        for (int v = 0; v < factor; v++, outIdx += outW) {
+            for (int u = 0; u < factor; u++) {
+                final int[] offsets = tapOffsets[v * factor + u], weights = tapWeights[v * factor + u];
+                
+                for (int x = 0, o = outIdx + u, block = renderIdx; x < w; x++, o += factor, block += render) {
+                    int a = 0, r = 0, g = 0, b = 0;
+                    for (int t = 0; t < offsets.length; t++) {
+                        final int p = rendered[block + offsets[t]];
+                        final int pa = (p >>> 24) * weights[t];
+                        a += pa;
+                        r += ((p >> 16) & 0xFF) * pa;
+                        g += ((p >> 8) & 0xFF) * pa;
+                        b += (p & 0xFF) * pa;
+                    }
+                    
+                    if (a == opaque) {
+                        out[o] = 0xFF000000 |
+                            (int) ((r + opaque / 2) * opaqueReciprocal >>> 48) << 16 |
+                            (int) ((g + opaque / 2) * opaqueReciprocal >>> 48) << 8 |
+                            (int) ((b + opaque / 2) * opaqueReciprocal >>> 48);
+                    }
+                    else {
+                        out[o] = a == 0? 0 :
+                            ((a + norm / 2) / norm) << 24 |
+                            ((r + a / 2) / a) << 16 |
+                            ((g + a / 2) / a) << 8 |
+                            ((b + a / 2) / a);
+                    }
+                }
+            }
+        }
+    }
+    
+}
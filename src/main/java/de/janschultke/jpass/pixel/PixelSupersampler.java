@@ -13,18 +13,79 @@ public interface PixelSupersampler {
         NEAREST_NEIGHBOR_3 = new PixelSSNearest(3),
         NEAREST_NEIGHBOR_4 = new PixelSSNearest(4),
         NEAREST_NEIGHBOR_5 = new PixelSSNearest(5),
-        XBRZ_2 = new PixelSSxBRZ(2),
-        XBRZ_3 = new PixelSSxBRZ(3),
-        XBRZ_4 = new PixelSSxBRZ(4),
-        XBRZ_5 = new PixelSSxBRZ(5),
+        XBRZ_2 = new PixelSSxBRZ(2, true),
+        XBRZ_3 = new PixelSSxBRZ(3, true),
+        XBRZ_4 = new PixelSSxBRZ(4, true),
+        XBRZ_5 = new PixelSSxBRZ(5, true),
         ADVMAME_2 = new PixelSSAdvMAME(2),
         ADVMAME_3 = new PixelSSAdvMAME(3),
+        ADVMAME_4 = new PixelSSAdvMAME(4),
         EAGLE = new PixelSSEagle(),
-        HQX_2 = new PixelSSHQx(2),
-        HQX_3 = new PixelSSHQx(3),
-        HQX_4 = new PixelSSHQx(4);
+        HQX_2 = new PixelSSHQx(2, true),
+        HQX_3 = new PixelSSHQx(3, true),
+        HQX_4 = new PixelSSHQx(4, true);
     
     
+    /**
+     * Returns the supersampler with the given name, optionally made parallel using {@link #parallel(PixelSupersampler)}.
+     *
+     * @param name the name of the supersampler
+     * @param parallel whether a parallel variant should be returned
+     * @return the supersampler
+     */
+    @NotNull
+    public static PixelSupersampler getByName(String name, boolean parallel) {
+        PixelSupersampler sampler = getByName(name);
+        return parallel? parallel(sampler) : sampler;
+    }
+    
+    /**
+     * Returns a variant of the given supersampler which scales large images concurrently. This is the supersampler
+     * itself if it is already parallel or if it does not declare a bounded neighbourhood.
+     *
+     * @param sampler the supersampler
+     * @return a parallel variant of the supersampler
+     */
+    @NotNull
+    public static PixelSupersampler parallel(PixelSupersampler sampler) {
+        return sampler.isParallel() || sampler.getRadius() < 0? sampler : new PixelSSParallel(sampler);
+    }
+    
+    /**
+     * Returns the supersampler of an algorithm with the smallest factor which reaches a target size, for use with
+     * {@link #apply(int[], int[], int, int, int, int)}. The factor is appended to the name of the algorithm, e.g.
+     * {@code xbrz} becomes {@code xbrz3}. If no factor of the algorithm is large enough, its largest one is returned,
+     * and names of supersamplers with a single factor, such as {@code eagle}, are returned as they are.
+     *
+     * @param name the name of the algorithm, without a factor
+     * @param w the image width
+     * @param h the image height
+     * @param targetW the target width
+     * @param targetH the target height
+     * @return the supersampler
+     */
+    @NotNull
+    public static PixelSupersampler getByTargetSize(String name, int w, int h, int targetW, int targetH) {
+        final int needed = Math.max(1, Math.max(
+            (targetW + Math.max(w, 1) - 1) / Math.max(w, 1),
+            (targetH + Math.max(h, 1) - 1) / Math.max(h, 1)));
+        
+        PixelSupersampler largest = null;
+        for (int factor = 2; factor <= 9; factor++) {
+            final PixelSupersampler sampler;
+            try {
+                sampler = getByName(name + factor);
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+            if (factor >= needed)
+                return sampler;
+            largest = sampler;
+        }
+        
+        return largest != null? largest : getByName(name);
+    }
+    
     @NotNull
     public static PixelSupersampler getByName(String name) {
         switch (name.toLowerCase()) {
@@ -81,6 +142,11 @@ public interface PixelSupersampler {
             case "advmame_3":
             case "advmame3x": return ADVMAME_3;
             
+            case "advmame4":
+            case "advmame_4":
+            case "advmame4x":
+            case "scale4x": return ADVMAME_4;
+            
             case "eagle": return EAGLE;
             
             case "hqx2":
@@ -95,7 +161,22 @@ public interface PixelSupersampler {
             case "hqx_4":
             case "hqx4x": return HQX_4;
             
-            default: throw new IllegalArgumentException("unknown sampler: " + name);
+            default: {
+                //supersamplers applied one after another, e.g. hqx2+xbrz3
+                if (name.indexOf('+') >= 0) {
+                    final String[] names = name.split("\\+", -1);
+                    final PixelSupersampler[] stages = new PixelSupersampler[names.length];
+                    for (int i = 0; i < names.length; i++)
+                        stages[i] = getByName(names[i].trim());
+                    return new PixelSSChain(stages);
+                }
+                
+                //xBRZ rendered at one factor and box-filtered to another, e.g. xbrz5to3
+                final String lower = name.toLowerCase();
+                if (lower.matches("xbrz\\dto\\d"))
+                    return new PixelSSxBRZBox(lower.charAt(4) - '0', lower.charAt(7) - '0', true);
+                throw new IllegalArgumentException("unknown sampler: " + name);
+            }
         }
     }
     
@@ -110,6 +191,27 @@ public interface PixelSupersampler {
      */
     abstract int[] apply(@NotNull int[] in, @Nullable int[] out, int w, int h);
     
+    /**
+     * Applies the supersampling to given image data and resamples the result to an exact target size, which need not
+     * be a multiple of the image size. The image is rendered and resampled in bands of rows, so only a band of the
+     * rendered image is held in memory at a time, unless this supersampler has an unbounded neighbourhood.
+     * <p>
+     * The resampling averages the rendered pixels covered by each target pixel; for the sharpest output, this
+     * supersampler should reach the target size with the smallest possible factor, see
+     * {@link #getByTargetSize(String, int, int, int, int)}.
+     *
+     * @param in the input data array
+     * @param out the optionally pre-allocated output data array
+     * @param w the image width
+     * @param h the image height
+     * @param targetW the target width
+     * @param targetH the target height
+     * @return the output data
+     */
+    default int[] apply(@NotNull int[] in, @Nullable int[] out, int w, int h, int targetW, int targetH) {
+        return TargetResampler.apply(this, in, out, w, h, targetW, targetH);
+    }
+    
     /**
      * Returns the factor by which this supersampler scales up the original image.
      *
@@ -117,6 +219,28 @@ public interface PixelSupersampler {
      */
     abstract int getFactor();
     
+    /**
+     * Returns the radius of the input neighbourhood which each output block depends on, or {@code -1} if the
+     * neighbourhood is unbounded or unknown.
+     * <p>
+     * Supersamplers with a bounded neighbourhood can be applied to bands of an image independently, see
+     * {@link PixelSSParallel}.
+     *
+     * @return the neighbourhood radius
+     */
+    default int getRadius() {
+        return -1;
+    }
+    
+    /**
+     * Returns whether this supersampler already splits large images up and scales them concurrently.
+     *
+     * @return whether this supersampler is parallel
+     */
+    default boolean isParallel() {
+        return false;
+    }
+    
     default Texture apply(Texture in) {
         final int
             inW = in.getWidth(),
@@ -131,4 +255,9 @@ public interface PixelSupersampler {
         return apply(Texture.wrapOrCopy(in)).getImageWrapper();
     }
     
+    default Texture apply(Texture in, int targetW, int targetH) {
+        final int[] out = apply(in.getData(), null, in.getWidth(), in.getHeight(), targetW, targetH);
+        return Texture.wrap(out, targetW, targetH);
+    }
+    
 }
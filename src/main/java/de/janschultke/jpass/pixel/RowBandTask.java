@@ -0,0 +1,90 @@
+package de.janschultke.jpass.pixel;
+
+import de.janschultke.jpass.JPASSScheduler;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task which splits a half-open range of rows {@code [yFirst, yLast)} into bands of at most
+ * {@code bandRows} rows and processes those bands concurrently.
+ */
+final class RowBandTask extends RecursiveAction {
+    
+    /** Images with fewer pixels than this are never split into bands. */
+    final static int MIN_PARALLEL_PIXELS = 256 * 256;
+    /** The minimum number of rows in a band. */
+    final static int MIN_BAND_ROWS = 16;
+    /** The number of bands per worker thread, so that uneven bands can be balanced out. */
+    private final static int BANDS_PER_THREAD = 4;
+    
+    private final Band band;
+    private final int yFirst, yLast, bandRows;
+    
+    RowBandTask(Band band, int yFirst, int yLast, int bandRows) {
+        this.band = band;
+        this.yFirst = yFirst;
+        this.yLast = yLast;
+        this.bandRows = bandRows;
+    }
+    
+    @Override
+    protected void compute() {
+        final int rows = yLast - yFirst;
+        if (rows <= bandRows) {
+            band.apply(yFirst, yLast);
+            return;
+        }
+        
+        // split on a band boundary so that all bands except for the last one have equal size
+        final int bands = (rows + bandRows - 1) / bandRows;
+        final int yMid = yFirst + (bands / 2) * bandRows;
+        invokeAll(
+            new RowBandTask(band, yFirst, yMid, bandRows),
+            new RowBandTask(band, yMid, yLast, bandRows));
+    }
+    
+    /**
+     * Returns the number of rows per band for an image of the given size, or {@code h} if the image is too small to
+     * be worth splitting.
+     *
+     * @param w the image width
+     * @param h the image height
+     * @param parallelism the number of worker threads
+     * @return the number of rows per band
+     */
+    static int bandRows(int w, int h, int parallelism) {
+        if (parallelism <= 1 || (long) w * h < MIN_PARALLEL_PIXELS || h < MIN_BAND_ROWS * 2)
+            return h;
+        
+        final int bands = parallelism * BANDS_PER_THREAD;
+        return Math.max(MIN_BAND_ROWS, (h + bands - 1) / bands);
+    }
+    
+    /**
+     * Applies the band to all rows of an image, either on the calling thread or split into bands on the shared pool.
+     *
+     * @param band the band operation
+     * @param w the image width
+     * @param h the image height
+     */
+    static void apply(Band band, int w, int h) {
+        final int bandRows = bandRows(w, h, JPASSScheduler.getThreads());
+        if (bandRows >= h)
+            band.apply(0, h);
+        else
+            JPASSScheduler.invoke(new RowBandTask(band, 0, h, bandRows));
+    }
+    
+    @FunctionalInterface
+    static interface Band {
+        
+        /**
+         * Processes a half-open range of rows {@code [yFirst, yLast)}.
+         *
+         * @param yFirst the first row
+         * @param yLast the row after the last row
+         */
+        abstract void apply(int yFirst, int yLast);
+    }
+    
+}
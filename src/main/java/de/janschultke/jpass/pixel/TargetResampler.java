@@ -0,0 +1,227 @@
+package de.janschultke.jpass.pixel;
+
+import eisenwave.torrens.img.Texture;
+
+import java.util.Arrays;
+
+/**
+ * Scales an image to an exact target size: a {@link PixelSupersampler} renders it at its integer factor and the
+ * rendered image is resampled to the target size in the same pass.
+ * <p>
+ * The image is processed in bands of target rows. Each band renders only the source rows it needs, extended by the
+ * {@link PixelSupersampler#getRadius() radius} of the supersampler as in {@link PixelSSParallel}, into a buffer of
+ * about {@link #BAND_BYTES}, so the rendered image is never allocated as a whole. Supersamplers with an unbounded
+ * neighbourhood are rendered in one piece instead.
+ * <p>
+ * The filter is separable area averaging: every target pixel is the mean of the rendered pixels it covers, weighted
+ * by their exact area of overlap, with premultiplied alpha. Each target row is first averaged vertically from the
+ * rendered rows it covers, which are still in cache, and then horizontally. All weights are integers, so the result
+ * does not depend on how the image is split up.
+ */
+final class TargetResampler {
+    
+    /** The number of bytes of rendered data a band should at most hold, apart from its halo. */
+    final static int BAND_BYTES = 1024 * 1024;
+    
+    private final PixelSupersampler sampler;
+    private final int[] in;
+    private final int w, h, factor, radius;
+    private final int targetW, targetH;
+    //the rendered size and target size per axis, divided by their greatest common divisor, so that a rendered
+    //pixel is targetX units wide and a target pixel renderX units
+    private final int renderX, targetX, renderY, targetY;
+    //the rendered columns which overlap target column tx start at columnFirst[tx], their areas of overlap are
+    //columnWeights[columnTaps[tx]] to columnWeights[columnTaps[tx + 1] - 1]
+    private final int[] columnFirst, columnTaps, columnWeights;
+    
+    private TargetResampler(PixelSupersampler sampler, int[] in, int w, int h, int targetW, int targetH) {
+        this.sampler = sampler;
+        this.in = in;
+        this.w = w;
+        this.h = h;
+        this.factor = sampler.getFactor();
+        this.radius = sampler.getRadius();
+        this.targetW = targetW;
+        this.targetH = targetH;
+        
+        final int gx = gcd(w * factor, targetW), gy = gcd(h * factor, targetH);
+        this.renderX = w * factor / gx;
+        this.targetX = targetW / gx;
+        this.renderY = h * factor / gy;
+        this.targetY = targetH / gy;
+        
+        this.columnFirst = new int[targetW];
+        this.columnTaps = new int[targetW + 1];
+        int taps = 0;
+        for (int tx = 0; tx < targetW; tx++)
+            taps += last(tx, renderX, targetX) - first(tx, renderX, targetX) + 1;
+        this.columnWeights = new int[taps];
+        for (int tx = 0, t = 0; tx < targetW; tx++) {
+            final int first = first(tx, renderX, targetX), last = last(tx, renderX, targetX);
+            columnFirst[tx] = first;
+            columnTaps[tx] = t;
+            for (int k = first; k <= last; k++)
+                columnWeights[t++] = overlap(tx, k, renderX, targetX);
+        }
+        columnTaps[targetW] = taps;
+    }
+    
+    /**
+     * Scales an image to a target size.
+     *
+     * @param sampler the supersampler which renders the image
+     * @param in the input data
+     * @param out the optionally pre-allocated output data
+     * @param w the image width
+     * @param h the image height
+     * @param targetW the target width
+     * @param targetH the target height
+     * @return the output data
+     */
+    static int[] apply(PixelSupersampler sampler, int[] in, int[] out, int w, int h, int targetW, int targetH) {
+        if (targetW < 1 || targetH < 1)
+            throw new IllegalArgumentException("target size must be positive: " + targetW + "x" + targetH);
+        if (out == null)
+            out = Texture.alloc(targetW, targetH).getData();
+        if (w == 0 || h == 0) {
+            Arrays.fill(out, 0, targetW * targetH, 0);
+            return out;
+        }
+        if (targetW == w * sampler.getFactor() && targetH == h * sampler.getFactor())
+            return sampler.apply(in, out, w, h);
+        
+        final TargetResampler resampler = new TargetResampler(sampler, in, w, h, targetW, targetH);
+        if (sampler.getRadius() < 0) {
+            resampler.applyBand(out, 0, targetH);
+        }
+        else {
+            final int[] trg = out;
+            RowBandTask.apply((yFirst, yLast) -> resampler.applyBand(trg, yFirst, yLast), targetW, targetH);
+        }
+        return out;
+    }
+    
+    //renders and resamples the target rows [yFirst, yLast) piece by piece
+    private void applyBand(int[] out, int yFirst, int yLast) {
+        final int renderW = w * factor;
+        
+        //the number of target rows whose source rows fill about BAND_BYTES of rendered data
+        final int sourceRows = radius < 0? h : Math.max(BAND_BYTES / (4 * renderW * factor), 1);
+        final int chunkRows = Math.max((int) ((long) sourceRows * targetH / h), 1);
+        
+        final long[] column = new long[4 * renderW];
+        int[] rendered = null;
+        
+        for (int ty = yFirst; ty < yLast; ty += chunkRows) {
+            final int tyEnd = Math.min(ty + chunkRows, yLast);
+            
+            //the source rows covered by the target rows and the rows of their neighbourhood
+            final int
+                sourceFirst = first(ty, renderY, targetY) / factor,
+                sourceLast = last(tyEnd - 1, renderY, targetY) / factor + 1,
+                haloFirst = radius < 0? 0 : Math.max(sourceFirst - radius, 0),
+                haloLast = radius < 0? h : Math.min(sourceLast + radius, h),
+                renderedLength = (haloLast - haloFirst) * factor * renderW;
+            
+            if (rendered == null || rendered.length < renderedLength)
+                rendered = new int[renderedLength];
+            final int[] bandIn = haloFirst == 0 && haloLast == h?
+                in : Arrays.copyOfRange(in, haloFirst * w, haloLast * w);
+            sampler.apply(bandIn, rendered, w, haloLast - haloFirst);
+            
+            for (int y = ty; y < tyEnd; y++)
+                resampleRow(rendered, haloFirst * factor, column, out, y);
+        }
+    }
+    
+    //resamples target row ty from the rendered rows, the first of which is rendered row renderedFirst of the image
+    private void resampleRow(int[] rendered, int renderedFirst, long[] column, int[] out, int ty) {
+        final int renderW = w * factor;
+        //vertical: premultiplied sums of the rendered rows covered by the target row; the first row is assigned
+        for (int ry = first(ty, renderY, targetY), last = last(ty, renderY, targetY), first = ry; ry <= last; ry++) {
+            final long weight = overlap(ty, ry, renderY, targetY);
+            final int p0 = (ry - renderedFirst) * renderW;
+            if (ry == first) {
+                for (int x = 0, c = 0; x < renderW; x++, c += 4) {
+                    final int argb = rendered[p0 + x];
+                    final long a = (argb >>> 24) * weight;
+                    column[c] = a;
+                    column[c + 1] = ((argb >> 16) & 0xFF) * a;
+                    column[c + 2] = ((argb >> 8) & 0xFF) * a;
+                    column[c + 3] = (argb & 0xFF) * a;
+                }
+            }
+            else {
+                for (int x = 0, c = 0; x < renderW; x++, c += 4) {
+                    final int argb = rendered[p0 + x];
+                    final long a = (argb >>> 24) * weight;
+                    column[c] += a;
+                    column[c + 1] += ((argb >> 16) & 0xFF) * a;
+                    column[c + 2] += ((argb >> 8) & 0xFF) * a;
+                    column[c + 3] += (argb & 0xFF) * a;
+                }
+            }
+        }
+        
+        //horizontal; the weights of a target pixel add up to renderX * renderY
+        final long norm = (long) renderX * renderY;
+        final double inverseNorm = 1.0 / norm, inverseOpaque = 1.0 / (255 * norm);
+        for (int tx = 0, o = ty * targetW; tx < targetW; tx++, o++) {
+            long a = 0, r = 0, g = 0, b = 0;
+            for (int t = columnTaps[tx], c = 4 * columnFirst[tx]; t < columnTaps[tx + 1]; t++, c += 4) {
+                final long weight = columnWeights[t];
+                a += column[c] * weight;
+                r += column[c + 1] * weight;
+                g += column[c + 2] * weight;
+                b += column[c + 3] * weight;
+            }
+            if (a == 0) {
+                out[o] = 0;
+                continue;
+            }
+            final double inverse = a == 255 * norm? inverseOpaque : 1.0 / a;
+            out[o] = (int)
+                (divide(a + norm / 2, norm, inverseNorm) << 24 |
+                divide(r + a / 2, a, inverse) << 16 |
+                divide(g + a / 2, a, inverse) << 8 |
+                divide(b + a / 2, a, inverse));
+        }
+    }
+    
+    //n / d for non-negative n and positive d, estimated by multiplying with the inverse of d and then corrected,
+    //which is much faster than a long division; the estimate is off by at most one as long as n < 2^53
+    private static long divide(long n, long d, double inverse) {
+        long q = (long) (n * inverse);
+        while (q * d > n)
+            q--;
+        while ((q + 1) * d <= n)
+            q++;
+        return q;
+    }
+    
+    //in units of 1 / target, rendered pixel k is [k * target, (k + 1) * target) and target pixel t is
+    //[t * render, (t + 1) * render)
+    
+    private static int first(int t, int render, int target) {
+        return (int) ((long) t * render / target);
+    }
+    
+    private static int last(int t, int render, int target) {
+        return (int) (((long) (t + 1) * render - 1) / target);
+    }
+    
+    private static int overlap(int t, int k, int render, int target) {
+        return (int) (Math.min((long) (k + 1) * target, (long) (t + 1) * render)
+            - Math.max((long) k * target, (long) t * render));
+    }
+    
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            final int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+    
+}
@@ -0,0 +1,109 @@
+package de.janschultke.jpass.pixel;
+
+import de.janschultke.jpass.JPASSScheduler;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task which splits an image into a grid of tiles and processes those tiles concurrently.
+ * <p>
+ * Tiles are numbered in row-major order and every task covers a contiguous range of tile numbers, so that tiles
+ * which are processed by the same worker tend to share their source rows.
+ */
+final class TileTask extends RecursiveAction {
+    
+    /** The number of bytes of target data a tile should at most produce, so that it stays in the L2 cache. */
+    final static int TILE_BYTES = 256 * 1024;
+    /** The minimum width and height of a tile. */
+    final static int MIN_TILE_SIDE = 32;
+    
+    private final Tile tile;
+    private final int w, h, tileW, tileH, columns;
+    private final int first, last;
+    
+    private TileTask(Tile tile, int w, int h, int tileW, int tileH, int first, int last) {
+        this.tile = tile;
+        this.w = w;
+        this.h = h;
+        this.tileW = tileW;
+        this.tileH = tileH;
+        this.columns = (w + tileW - 1) / tileW;
+        this.first = first;
+        this.last = last;
+    }
+    
+    @Override
+    protected void compute() {
+        if (last - first == 1) {
+            applyTile(first);
+            return;
+        }
+        
+        final int mid = (first + last) >>> 1;
+        invokeAll(
+            new TileTask(tile, w, h, tileW, tileH, first, mid),
+            new TileTask(tile, w, h, tileW, tileH, mid, last));
+    }
+    
+    private void applyTile(int index) {
+        final int
+            xFirst = (index % columns) * tileW,
+            yFirst = (index / columns) * tileH;
+        
+        tile.apply(xFirst, Math.min(xFirst + tileW, w), yFirst, Math.min(yFirst + tileH, h));
+    }
+    
+    /**
+     * Returns the side length of square source tiles whose target data fits into {@link #TILE_BYTES}.
+     *
+     * @param factor the scaling factor
+     * @return the side length of a tile
+     */
+    static int tileSide(int factor) {
+        final int bytesPerPixel = 4 * factor * factor;
+        return Math.max(MIN_TILE_SIDE, (int) Math.sqrt(TILE_BYTES / bytesPerPixel));
+    }
+    
+    /**
+     * Applies the tile operation to an entire image, split into tiles of the given size. The tiles are processed
+     * on the shared pool, or on the calling thread if the pool has only a single worker.
+     *
+     * @param tile the tile operation
+     * @param w the image width
+     * @param h the image height
+     * @param tileW the tile width
+     * @param tileH the tile height
+     */
+    static void apply(Tile tile, int w, int h, int tileW, int tileH) {
+        final int
+            columns = (w + tileW - 1) / tileW,
+            rows = (h + tileH - 1) / tileH,
+            tiles = columns * rows;
+        if (tiles == 0)
+            return;
+        
+        final TileTask task = new TileTask(tile, w, h, tileW, tileH, 0, tiles);
+        if (tiles == 1 || JPASSScheduler.getThreads() <= 1) {
+            for (int i = 0; i < tiles; i++)
+                task.applyTile(i);
+        }
+        else {
+            JPASSScheduler.invoke(task);
+        }
+    }
+    
+    @FunctionalInterface
+    static interface Tile {
+        
+        /**
+         * Processes the tile {@code [xFirst, xLast) x [yFirst, yLast)}.
+         *
+         * @param xFirst the first column
+         * @param xLast the column after the last column
+         * @param yFirst the first row
+         * @param yLast the row after the last row
+         */
+        abstract void apply(int xFirst, int xLast, int yFirst, int yLast);
+    }
+    
+}
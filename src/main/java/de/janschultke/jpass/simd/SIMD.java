@@ -0,0 +1,72 @@
+package de.janschultke.jpass.simd;
+
+/**
+ * Row kernels of the supersamplers which benefit from SIMD instructions.
+ * <p>
+ * This is the implementation for Java 8, which always runs the scalar kernels. On Java 17 and later, the
+ * multi-release JAR contains a variant of this class which runs the kernels on the incubating Vector API instead, if
+ * the {@code jdk.incubator.vector} module has been added (<code>--add-modules jdk.incubator.vector</code>) and the
+ * {@value #PROPERTY} system property is not <code>false</code>. Both variants produce identical results.
+ */
+public final class SIMD {
+    
+    public final static String PROPERTY = "jpass.simd";
+    
+    private SIMD() {}
+    
+    /**
+     * Returns whether the kernels run on the Vector API.
+     *
+     * @return whether the kernels are vectorized
+     */
+    public static boolean isEnabled() {
+        return false;
+    }
+    
+    /**
+     * Repeats every pixel of a row <code>factor</code> times, which is a row of a nearest neighbour scaled image.
+     *
+     * @param in the source data
+     * @param srcIdx the index of the first pixel of the source row
+     * @param w the source width
+     * @param out the output data
+     * @param outIdx the index of the first output pixel
+     * @param factor the scaling factor
+     */
+    public static void expandRow(int[] in, int srcIdx, int w, int[] out, int outIdx, int factor) {
+        ScalarKernels.expandRow(in, srcIdx, w, out, outIdx, factor);
+    }
+    
+    /**
+     * Compares a range of pixels with one of their HQx neighbours each and sets a bit in the patterns of the pixels
+     * which differ from their neighbour. Equal colors never differ, others are compared by their YUV values and alpha
+     * according to the thresholds, as in the HQx algorithms.
+     *
+     * @param c the colors of the pixels
+     * @param cIdx the index of the first pixel
+     * @param cYuv the YUV values of the pixels
+     * @param cYuvIdx the index of the YUV value of the first pixel
+     * @param n the colors of the neighbours
+     * @param nIdx the index of the neighbour of the first pixel
+     * @param nYuv the YUV values of the neighbours
+     * @param nYuvIdx the index of the YUV value of the neighbour of the first pixel
+     * @param length the number of pixels
+     * @param trY the Y (luminance) threshold, shifted left by 16 bits
+     * @param trU the U (chrominance) threshold, shifted left by 8 bits
+     * @param trV the V (chrominance) threshold
+     * @param trA the A (transparency) threshold
+     * @param patterns the patterns of the pixels
+     * @param patternIdx the index of the pattern of the first pixel
+     * @param bit the bit to set
+     */
+    public static void hqxDiff(
+        final int[] c, final int cIdx, final int[] cYuv, final int cYuvIdx,
+        final int[] n, final int nIdx, final int[] nYuv, final int nYuvIdx,
+        final int length,
+        final int trY, final int trU, final int trV, final int trA,
+        final int[] patterns, final int patternIdx, final int bit) {
+        ScalarKernels.hqxDiff(c, cIdx, cYuv, cYuvIdx, n, nIdx, nYuv, nYuvIdx, length,
+            trY, trU, trV, trA, patterns, patternIdx, bit);
+    }
+    
+}
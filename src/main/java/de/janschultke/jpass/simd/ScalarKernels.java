@@ -0,0 +1,41 @@
+package de.janschultke.jpass.simd;
+
+/**
+ * The scalar implementation of the kernels of {@link SIMD}. It is also used for the remainder of a row which does not
+ * fill an entire vector.
+ */
+final class ScalarKernels {
+    
+    //the masks of the YUV components, as in Hqx
+    final static int Y_MASK = 0x00FF0000, U_MASK = 0x0000FF00, V_MASK = 0x000000FF;
+    
+    private ScalarKernels() {}
+    
+    static void expandRow(int[] in, int srcIdx, int w, int[] out, int outIdx, int factor) {
+        for (int x = 0, i = outIdx; x < w; x++) {
+            final int rgb = in[srcIdx + x];
+            for (int j = 0; j < factor; j++)
+                out[i++] = rgb;
+        }
+    }
+    
+    static void hqxDiff(
+        final int[] c, final int cIdx, final int[] cYuv, final int cYuvIdx,
+        final int[] n, final int nIdx, final int[] nYuv, final int nYuvIdx,
+        final int length,
+        final int trY, final int trU, final int trV, final int trA,
+        final int[] patterns, final int patternIdx, final int bit) {
+        
+        for (int i = 0; i < length; i++) {
+            final int c1 = c[cIdx + i], c2 = n[nIdx + i];
+            final int YUV1 = cYuv[cYuvIdx + i], YUV2 = nYuv[nYuvIdx + i];
+            if (c1 != c2 && (
+                (Math.abs((YUV1 & Y_MASK) - (YUV2 & Y_MASK)) > trY) ||
+                (Math.abs((YUV1 & U_MASK) - (YUV2 & U_MASK)) > trU) ||
+                (Math.abs((YUV1 & V_MASK) - (YUV2 & V_MASK)) > trV) ||
+                (Math.abs(((c1 >> 24) - (c2 >> 24))) > trA)))
+                patterns[patternIdx + i] |= bit;
+        }
+    }
+    
+}
@@ -1,5 +1,10 @@
 package de.janschultke.jpass.xbrz;
 
+import de.janschultke.jpass.FlatSpans;
+import de.janschultke.jpass.simd.SIMD;
+
+import java.util.Arrays;
+
 import static de.janschultke.jpass.xbrz.XBRZUtil.*;
 
 /*
@@ -16,7 +21,8 @@ import static de.janschultke.jpass.xbrz.XBRZUtil.*;
 
 /*
  -> map source (srcWidth * srcHeight) to target (scale * width x scale * height)
- image, optionally processing a half-open slice of rows [yFirst, yLast) only
+ image, optionally processing a half-open slice of rows [yFirst, yLast) only,
+ or a tile of rows [yFirst, yLast) and columns [xFirst, xLast)
  -> color format: ARGB (BGRA char order), alpha channel unused
  -> support for source/target pitch in chars!
  -> if your emulator changes only a few image slices during each cycle
@@ -28,14 +34,98 @@ import static de.janschultke.jpass.xbrz.XBRZUtil.*;
  after adding these additional rows in order to avoid a memory race condition
  if you are using multiple threads for processing each enlarged slice!
 
- THREAD-SAFETY: - parts of the same image may be scaled by multiple threads
- as long as the [yFirst, yLast) ranges do not overlap!
+ THREAD-SAFETY: - an XBRZ instance holds the scratch state of one scaling
+ call and must not be shared between threads; use the static scale(...)
+ methods, which reuse one instance per thread
+ - parts of the same image may be scaled by multiple threads
+ as long as the [yFirst, yLast) ranges (or [xFirst, xLast) x [yFirst, yLast)
+ tiles) do not overlap!
  - there is a minor inefficiency for the first row of a slice, so avoid
  processing single rows only
+ - likewise, the column left of a tile is analyzed again on every row, so
+ avoid processing narrow tiles
  */
 @SuppressWarnings({"JavacQuirks", "RedundantIfStatement"})
 public class XBRZ {
     
+    private final static ThreadLocal<XBRZ> CONTEXT = ThreadLocal.withInitial(XBRZ::new);
+    
+    /**
+     * Scales a tile of the image data using the scratch state of the current thread. Unlike the instance methods,
+     * this method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param xFirst the min column
+     * @param xLast the max column
+     * @param yFirst the min row
+     * @param yLast the max row
+     * @see #scaleImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, int, int, int, int)
+     */
+    public static void scale(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final int xFirst,
+        final int xLast,
+        final int yFirst,
+        final int yLast) {
+        CONTEXT.get().scaleImage(scaleSize, src, trg, w, h, cfg, xFirst, xLast, yFirst, yLast);
+    }
+    
+    /**
+     * Scales a slice of rows of the image data using the scratch state of the current thread. Unlike the instance
+     * methods, this method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param yFirst the min row
+     * @param yLast the max row
+     */
+    public static void scale(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final int yFirst,
+        final int yLast) {
+        scale(scaleSize, src, trg, w, h, cfg, 0, w, yFirst, yLast);
+    }
+    
+    /**
+     * Scales the image data in its entirety using the scratch state of the current thread. Unlike the instance
+     * methods, this method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     */
+    public static void scale(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg) {
+        scale(scaleSize, src, trg, w, h, cfg, 0, w, 0, h);
+    }
+    
     /**
      * Scales the image data.
      *
@@ -57,14 +147,40 @@ public class XBRZ {
         final XBRZConfig cfg,
         int yFirst,
         int yLast) {
-        if (scaleSize == null)
-            throw new IllegalArgumentException("scale size must not be null");
-        if (cfg == null)
-            throw new IllegalArgumentException("config must not be null");
-        
-        this.scaleSize = scaleSize;
-        this.cfg = cfg;
-        scaleImage(src, trg, w, h, yFirst, yLast);
+        scaleImage(scaleSize, src, trg, w, h, cfg, 0, w, yFirst, yLast);
+    }
+    
+    /**
+     * Scales a tile of the image data.
+     * <p>
+     * Only the target blocks of the source pixels inside the tile are written, but the analysis reads up to two
+     * pixels beyond the tile in each direction, so {@code src} must always contain the entire image.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param xFirst the min column
+     * @param xLast the max column
+     * @param yFirst the min row
+     * @param yLast the max row
+     */
+    public final void scaleImage(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        int xFirst,
+        int xLast,
+        int yFirst,
+        int yLast) {
+        setScaleSize(scaleSize);
+        setConfig(cfg);
+        scaleImage(src, trg, w, h, xFirst, xLast, yFirst, yLast);
     }
     
     /**
@@ -105,22 +221,307 @@ public class XBRZ {
         scaleImage(scaleSize, src, trg, w, h, new XBRZConfig());
     }
     
+    /**
+     * Analyzes the image data in its entirety using the scratch state of the current thread. Unlike the instance
+     * methods, this method may be called from any number of threads at once.
+     *
+     * @param src the source data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @return the blend plane of the image
+     * @see #render(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane)
+     */
+    public static XBRZBlendPlane analyze(
+        final int[] src,
+        final int w,
+        final int h,
+        final XBRZConfig cfg) {
+        final XBRZBlendPlane plane = new XBRZBlendPlane(w, h);
+        analyze(src, w, h, cfg, plane, 0, h);
+        return plane;
+    }
+    
+    /**
+     * Analyzes a slice of rows of the image data using the scratch state of the current thread. Unlike the instance
+     * methods, this method may be called from any number of threads at once.
+     *
+     * @param src the source data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane to write to
+     * @param yFirst the min row
+     * @param yLast the max row
+     * @see #analyzeImage(int[], int, int, XBRZConfig, XBRZBlendPlane, int, int)
+     */
+    public static void analyze(
+        final int[] src,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int yFirst,
+        final int yLast) {
+        CONTEXT.get().analyzeImage(src, w, h, cfg, plane, yFirst, yLast);
+    }
+    
+    /**
+     * Renders the image data in its entirety from its blend plane using the scratch state of the current thread.
+     * Unlike the instance methods, this method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane of the source data
+     * @see #renderImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane, int, int, int, int)
+     */
+    public static void render(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane) {
+        render(scaleSize, src, trg, w, h, cfg, plane, 0, w, 0, h);
+    }
+    
+    /**
+     * Renders a tile of the image data from its blend plane using the scratch state of the current thread. Unlike
+     * the instance methods, this method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane of the source data
+     * @param xFirst the min column
+     * @param xLast the max column
+     * @param yFirst the min row
+     * @param yLast the max row
+     * @see #renderImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane, int, int, int, int)
+     */
+    public static void render(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int xFirst,
+        final int xLast,
+        final int yFirst,
+        final int yLast) {
+        CONTEXT.get().renderImage(scaleSize, src, trg, w, h, cfg, plane, xFirst, xLast, yFirst, yLast);
+    }
+    
+    /**
+     * Renders a slice of rows of the image data from its blend plane into a target array which only holds the
+     * target rows of the slice, using the scratch state of the current thread. Unlike the instance methods, this
+     * method may be called from any number of threads at once.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data, whose first row is the first target row of source row {@code yFirst}
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane of the source data
+     * @param yFirst the min row
+     * @param yLast the max row
+     * @see #renderSliceImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane, int, int)
+     */
+    public static void renderSlice(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int yFirst,
+        final int yLast) {
+        CONTEXT.get().renderSliceImage(scaleSize, src, trg, w, h, cfg, plane, yFirst, yLast);
+    }
+    
+    /**
+     * Analyzes a slice of rows of the image data and writes the blend information of its pixels to a blend plane.
+     * This is the first half of {@link #scaleImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, int, int)},
+     * which does not depend on the scale size.
+     * <p>
+     * Only the blend information of the rows of the slice is written, but the analysis reads up to two rows beyond
+     * the slice, so {@code src} must always contain the entire image. Thus, non-overlapping slices of the same plane
+     * may be analyzed by multiple threads.
+     *
+     * @param src the source data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane to write to
+     * @param yFirst the min row
+     * @param yLast the max row
+     */
+    public final void analyzeImage(
+        final int[] src,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int yFirst,
+        final int yLast) {
+        checkPlane(plane, w, h);
+        setConfig(cfg);
+        analyzeImage(src, w, h, plane.getData(), yFirst, yLast);
+    }
+    
+    /**
+     * Renders a tile of the image data from its blend plane. This is the second half of
+     * {@link #scaleImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, int, int, int, int)}, so the output is
+     * identical as long as the config is the same as the one of the analysis.
+     * <p>
+     * Apart from the blend information of the tile, only the direct neighbours of the tile are read, so any tiles
+     * may be rendered by multiple threads without analyzing anything twice.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane of the source data
+     * @param xFirst the min column
+     * @param xLast the max column
+     * @param yFirst the min row
+     * @param yLast the max row
+     */
+    public final void renderImage(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int xFirst,
+        final int xLast,
+        final int yFirst,
+        final int yLast) {
+        checkPlane(plane, w, h);
+        setScaleSize(scaleSize);
+        setConfig(cfg);
+        renderImage(src, trg, w, h, plane.getData(), xFirst, xLast, yFirst, yLast, 0);
+    }
+    
+    /**
+     * Renders a slice of rows of the image data from its blend plane into a target array which only holds the
+     * target rows of the slice. This allows for processing the output of large images piece by piece, without ever
+     * allocating all of it.
+     *
+     * @param scaleSize the scale size
+     * @param src the source data
+     * @param trg the target data, whose first row is the first target row of source row {@code yFirst}
+     * @param w the source width
+     * @param h the source height
+     * @param cfg the xBRZ config
+     * @param plane the blend plane of the source data
+     * @param yFirst the min row
+     * @param yLast the max row
+     * @see #renderImage(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane, int, int, int, int)
+     */
+    public final void renderSliceImage(
+        final XBRZScaleSize scaleSize,
+        final int[] src,
+        final int[] trg,
+        final int w,
+        final int h,
+        final XBRZConfig cfg,
+        final XBRZBlendPlane plane,
+        final int yFirst,
+        final int yLast) {
+        checkPlane(plane, w, h);
+        setScaleSize(scaleSize);
+        setConfig(cfg);
+        renderImage(src, trg, w, h, plane.getData(), 0, w, yFirst, yLast, Math.max(yFirst, 0));
+    }
+    
+    private void setScaleSize(final XBRZScaleSize scaleSize) {
+        if (scaleSize == null)
+            throw new IllegalArgumentException("scale size must not be null");
+        this.scaleSize = scaleSize;
+    }
+    
+    private void setConfig(final XBRZConfig cfg) {
+        if (cfg == null)
+            throw new IllegalArgumentException("config must not be null");
+        this.cfg = cfg;
+        
+        //weights beyond the fixed-point range fall back to the double-precision distance
+        fixedPointDistance = cfg.fixedPointDistance
+            && Math.abs(cfg.luminanceWeight) <= XBRZUtil.MAX_FIXED_LUMINANCE_WEIGHT;
+        luminanceWeight = cfg.luminanceWeight;
+        if (fixedPointDistance)
+            luminanceWeightSqFixed = toFixedLuminanceWeightSq(cfg.luminanceWeight);
+        eqColorThres = XBRZUtil.sqr(cfg.equalColorTolerance);
+        if (fixedPointDistance)
+            eqColorThres = toFixedDist(eqColorThres);
+    }
+    
+    private static void checkPlane(final XBRZBlendPlane plane, final int w, final int h) {
+        if (plane == null)
+            throw new IllegalArgumentException("blend plane must not be null");
+        if (plane.getWidth() != w || plane.getHeight() != h)
+            throw new IllegalArgumentException("blend plane of " + plane.getWidth() + "x" + plane.getHeight()
+                + " does not match " + w + "x" + h);
+    }
+    
+    // scratch state, reused across calls
     private XBRZConfig cfg;
     private XBRZScaleSize scaleSize;
-    private XBRZMatrix outputMatrix;
+    private boolean fixedPointDistance;
+    private double luminanceWeight;
+    private long luminanceWeightSqFixed;
+    //in the units of dist(...)
+    private double eqColorThres;
+    private char[] preProcBuffer = new char[0];
+    private final int[][] outputOffsets = new int[maxRots][maxScaleSq];
+    private int outputOffsetsScale, outputOffsetsWidth;
     private final BlendResult blendResult = new BlendResult();
+    private final DistRow[] distRows = {new DistRow(), new DistRow(), new DistRow()};
+    private final FlatSpans flatSpans = new FlatSpans();
+    
+    //called directly instead of through an interface, so that the JIT sees a single, inlinable target;
+    //integer distances are exact in a double, and so are their weighted sums in preProcessCorners
+    private double dist(final int col1, final int col2) {
+        return fixedPointDistance?
+            colorDistFixed(col1, col2, luminanceWeightSqFixed) :
+            colorDist(col1, col2, luminanceWeight);
+    }
     
-    //fill block with the given color
-    private static void fillBlock(
+    private boolean eq(final int col1, final int col2) {
+        return dist(col1, col2) < eqColorThres;
+    }
+    
+    //fill the blocks of a range of source pixels of a row with their colors; the blocks of a row are contiguous in
+    //each target row, so the first target row is expanded from the source and copied to the others
+    private static void fillBlocks(
+        final int[] src,
+        final int srci,
+        final int count,
         final int[] trg,
-        int trgi,
+        final int trgi,
         final int pitch,
-        final int col,
         final int blockSize) {
         
-        for (int y = 0; y < blockSize; ++y, trgi += pitch)
-            for (int x = 0; x < blockSize; ++x)
-                trg[trgi + x] = col;
+        SIMD.expandRow(src, srci, count, trg, trgi, blockSize);
+        for (int y = 1; y < blockSize; ++y)
+            System.arraycopy(trg, trgi, trg, trgi + y * pitch, count * blockSize);
     }
     
     private enum BlendType {
@@ -131,6 +532,15 @@ public class XBRZ {
         public static final char BLEND_DOMINANT = 2; //a strong indication to blend
     }
     
+    private enum BlendShape {
+        ;
+        public static final int CORNER = 0;
+        public static final int LINE_DIAGONAL = 1;
+        public static final int LINE_SHALLOW = 2;
+        public static final int LINE_STEEP = 3;
+        public static final int LINE_STEEP_AND_SHALLOW = 4;
+    }
+    
     private static final class BlendResult {
         
         public char f;
@@ -143,17 +553,12 @@ public class XBRZ {
         }
     }
     
-    private static final class Kernel_3x3 {
-        
-        public final int[] _ = new int[3 * 3];
-    }
-    
-    private static final class Kernel_4x4 {
+    //the diagonal color distances between the source rows r and r + 1, indexed by x - xStart + 1
+    private static final class DistRow {
         
-        public int a, b, c, d;
-        public int e, f, g, h;
-        public int i, j, k, l;
-        public int m, n, o, p;
+        public int r;
+        public double[] diag = new double[0]; //between (x, r) and (x + 1, r + 1)
+        public double[] anti = new double[0]; //between (x, r + 1) and (x + 1, r)
     }
 
  /*
@@ -169,84 +574,85 @@ public class XBRZ {
   -----------------
   */
     
-    private IColorDist preProcessCorners_colorDist;
-    
     //detect blend direction
-    private void preProcessCorners(final Kernel_4x4 ker) {
+    //every distance of the kernel is a diagonal one between two adjacent rows, so all of them are taken from the
+    //distance rows of the rows y - 1, y and y + 1, where every distance has only been computed once
+    private void preProcessCorners(
+        final int f,
+        final int g,
+        final int j,
+        final int k,
+        final DistRow top,
+        final DistRow mid,
+        final DistRow bottom,
+        final int dx
+    ) {
         blendResult.reset();
         
-        if ((ker.f == ker.g && ker.j == ker.k)
-            || (ker.f == ker.j && ker.g == ker.k))
+        if ((f == g && j == k)
+            || (f == j && g == k))
             return;
         
-        final IColorDist dist = preProcessCorners_colorDist;
-        
         final int weight = 4;
-        final double jg = dist._(ker.i, ker.f) + dist._(ker.f, ker.c) + dist._(ker.n, ker.k) + dist._(ker.k, ker.h) + weight * dist._(ker.j, ker.g);
-        final double fk = dist._(ker.e, ker.j) + dist._(ker.j, ker.o) + dist._(ker.b, ker.g) + dist._(ker.g, ker.l) + weight * dist._(ker.f, ker.k);
+        //dist(I, F) + dist(F, C) + dist(N, K) + dist(K, H) + weight * dist(J, G)
+        final double jg = mid.anti[dx - 1] + top.anti[dx] + bottom.anti[dx] + mid.anti[dx + 1] + weight * mid.anti[dx];
+        //dist(E, J) + dist(J, O) + dist(B, G) + dist(G, L) + weight * dist(F, K)
+        final double fk = mid.diag[dx - 1] + bottom.diag[dx] + top.diag[dx] + mid.diag[dx + 1] + weight * mid.diag[dx];
         
         if (jg < fk) {
             final boolean dominantGradient = cfg.dominantDirectionThreshold * jg < fk;
-            if (ker.f != ker.g && ker.f != ker.j)
+            if (f != g && f != j)
                 blendResult.f = dominantGradient? BlendType.BLEND_DOMINANT : BlendType.BLEND_NORMAL;
             
-            if (ker.k != ker.j && ker.k != ker.g)
+            if (k != j && k != g)
                 blendResult.k = dominantGradient? BlendType.BLEND_DOMINANT : BlendType.BLEND_NORMAL;
         }
         else if (fk < jg) {
             final boolean dominantGradient = cfg.dominantDirectionThreshold * fk < jg;
-            if (ker.j != ker.f && ker.j != ker.k)
+            if (j != f && j != k)
                 blendResult.j = dominantGradient? BlendType.BLEND_DOMINANT : BlendType.BLEND_NORMAL;
             
-            if (ker.g != ker.f && ker.g != ker.k)
+            if (g != f && g != k)
                 blendResult.g = dominantGradient? BlendType.BLEND_DOMINANT : BlendType.BLEND_NORMAL;
         }
     }
     
-    private enum Rot {
-        ;
-        // Cache the 4 rotations of the 9 positions, a to i.
-        public static int[] _ = new int[9 * 4];
-        
-        static {
-            final int
-                a = 0, b = 1, c = 2,
-                d = 3, e = 4, f = 5,
-                g = 6, h = 7, i = 8;
-            
-            final int[] deg0 = new int[] {
-                a, b, c,
-                d, e, f,
-                g, h, i};
-            
-            final int[] deg90 = new int[] {
-                g, d, a,
-                h, e, b,
-                i, f, c};
-            
-            final int[] deg180 = new int[] {
-                i, h, g,
-                f, e, d,
-                c, b, a};
-            
-            final int[] deg270 = new int[] {
-                c, f, i,
-                b, e, h,
-                a, d, g};
-            
-            final int[][] rotation = new int[][] {
-                deg0, deg90, deg180, deg270
-            };
+    //return the distances between the rows r and r + 1, computing them only if they are not in the window yet
+    private DistRow distRow(
+        final int[] src,
+        final int srcWidth,
+        final int srcHeight,
+        final int xStart,
+        final int xLast,
+        final int r
+    ) {
+        //r >= -1
+        final DistRow row = distRows[(r + 1) % distRows.length];
+        if (row.r == r)
+            return row;
+        
+        final int length = xLast - xStart + 2;
+        if (row.diag.length < length) {
+            row.diag = new double[length];
+            row.anti = new double[length];
+        }
+        
+        final int s_0 = srcWidth * Math.min(Math.max(r, 0), srcHeight - 1);
+        final int s_p1 = srcWidth * Math.min(r + 1, srcHeight - 1);
+        
+        for (int x = xStart - 1; x <= xLast; ++x) {
+            final int x_0 = Math.min(Math.max(x, 0), srcWidth - 1);
+            final int x_p1 = Math.min(x + 1, srcWidth - 1);
+            final int dx = x - xStart + 1;
             
-            for (int rotDeg = 0; rotDeg < 4; rotDeg++)
-                for (int x = 0; x < 9; x++)
-                    _[(x << 2) + rotDeg] = rotation[rotDeg][x];
+            row.diag[dx] = dist(src[s_0 + x_0], src[s_p1 + x_p1]);
+            row.anti[dx] = dist(src[s_p1 + x_0], src[s_0 + x_p1]);
         }
+        
+        row.r = r;
+        return row;
     }
     
-    private IColorEq scalePixel_colorEq;
-    private IColorDist scalePixel_colorDist;
-    
     /*
      input kernel area naming convention:
      -------------
@@ -257,32 +663,24 @@ public class XBRZ {
      | G | H | I |
      -------------
      */
+    //the kernel is passed in rotated by rotDeg, along with the distances from E to G, C and I, which are already
+    //known from preprocessing
     private void scalePixel(
-        final XBRZScaler scaler,
         final int rotDeg,
-        final Kernel_3x3 ker,
+        final int b, final int c,
+        final int d, final int e, final int f,
+        final int g, final int h, final int i,
+        final double eg, final double ec, final double ei,
         final int[] trg,
         final int trgi,
-        final int trgWidth,
         final char blendInfo
     ) {
-        //final int a = ker._[Rot._[(0 << 2) + rotDeg]];
-        final int b = ker._[Rot._[(1 << 2) + rotDeg]];
-        final int c = ker._[Rot._[(2 << 2) + rotDeg]];
-        final int d = ker._[Rot._[(3 << 2) + rotDeg]];
-        final int e = ker._[Rot._[(4 << 2) + rotDeg]];
-        final int f = ker._[Rot._[(5 << 2) + rotDeg]];
-        final int g = ker._[Rot._[(6 << 2) + rotDeg]];
-        final int h = ker._[Rot._[(7 << 2) + rotDeg]];
-        final int i = ker._[Rot._[(8 << 2) + rotDeg]];
-        
         final char blend = BlendInfo.rotate(blendInfo, rotDeg);
         
         if (BlendInfo.getBottomR(blend) == BlendType.BLEND_NONE)
             return;
         
-        final IColorEq eq = scalePixel_colorEq;
-        final IColorDist dist = scalePixel_colorDist;
+        final double eqThres = eqColorThres;
         
         boolean doLineBlend;
         
@@ -292,49 +690,76 @@ public class XBRZ {
             //make sure there is no second blending in an adjacent
             //rotation for this pixel: handles insular pixels, mario eyes
             //but support double-blending for 90� corners
-        else if (BlendInfo.getTopR(blend) != BlendType.BLEND_NONE && !eq._(e, g))
+        else if (BlendInfo.getTopR(blend) != BlendType.BLEND_NONE && eg >= eqThres)
             doLineBlend = false;
         
-        else if (BlendInfo.getBottomL(blend) != BlendType.BLEND_NONE && !eq._(e, c))
+        else if (BlendInfo.getBottomL(blend) != BlendType.BLEND_NONE && ec >= eqThres)
             doLineBlend = false;
             
             //no full blending for L-shapes; blend corner only (handles "mario mushroom eyes")
-        else if (eq._(g, h) && eq._(h, i) && eq._(i, f) && eq._(f, c) && !eq._(e, i))
+        else if (eq(g, h) && eq(h, i) && eq(i, f) && eq(f, c) && ei >= eqThres)
             doLineBlend = false;
         
         else
             doLineBlend = true;
         
         //choose most similar color
-        final int px = dist._(e, f) <= dist._(e, h)? f : h;
+        final int px = dist(e, f) <= dist(e, h)? f : h;
         
-        final XBRZMatrix out = outputMatrix;
-        out.move(rotDeg, trgi);
+        final int[] out = outputOffsets[rotDeg];
         
         if (!doLineBlend) {
-            scaler.blendCorner(px, out);
+            blend(BlendShape.CORNER, px, trg, trgi, out);
             return;
         }
         
         //test sample: 70% of values max(fg, hc) / min(fg, hc)
         //are between 1.1 and 3.7 with median being 1.9
-        final double fg = dist._(f, g);
-        final double hc = dist._(h, c);
+        final double fg = dist(f, g);
+        final double hc = dist(h, c);
         
         final boolean haveShallowLine = cfg.steepDirectionThreshold * fg <= hc && e != g && d != g;
         final boolean haveSteepLine = cfg.steepDirectionThreshold * hc <= fg && e != c && b != c;
         
         if (haveShallowLine) {
             if (haveSteepLine)
-                scaler.blendLineSteepAndShallow(px, out);
+                blend(BlendShape.LINE_STEEP_AND_SHALLOW, px, trg, trgi, out);
             else
-                scaler.blendLineShallow(px, out);
+                blend(BlendShape.LINE_SHALLOW, px, trg, trgi, out);
         }
         else {
             if (haveSteepLine)
-                scaler.blendLineSteep(px, out);
+                blend(BlendShape.LINE_STEEP, px, trg, trgi, out);
             else
-                scaler.blendLineDiagonal(px, out);
+                blend(BlendShape.LINE_DIAGONAL, px, trg, trgi, out);
+        }
+    }
+    
+    //every case passes a different constant scaler, so that once blend(XBRZScaler, ...) is inlined, the JIT can
+    //call the blend routines of that scaler directly, no matter how many scales are in use
+    private void blend(final int shape, final int col, final int[] trg, final int trgi, final int[] out) {
+        switch (scaleSize) {
+            case Times2: blend(XBRZScaler.X2, shape, col, trg, trgi, out); break;
+            case Times3: blend(XBRZScaler.X3, shape, col, trg, trgi, out); break;
+            case Times4: blend(XBRZScaler.X4, shape, col, trg, trgi, out); break;
+            case Times5: blend(XBRZScaler.X5, shape, col, trg, trgi, out); break;
+            default: throw new AssertionError(scaleSize);
+        }
+    }
+    
+    private static void blend(
+        final XBRZScaler scaler,
+        final int shape,
+        final int col,
+        final int[] trg,
+        final int trgi,
+        final int[] out) {
+        switch (shape) {
+            case BlendShape.CORNER: scaler.blendCorner(col, trg, trgi, out); break;
+            case BlendShape.LINE_DIAGONAL: scaler.blendLineDiagonal(col, trg, trgi, out); break;
+            case BlendShape.LINE_SHALLOW: scaler.blendLineShallow(col, trg, trgi, out); break;
+            case BlendShape.LINE_STEEP: scaler.blendLineSteep(col, trg, trgi, out); break;
+            case BlendShape.LINE_STEEP_AND_SHALLOW: scaler.blendLineSteepAndShallow(col, trg, trgi, out); break;
         }
     }
     
@@ -344,23 +769,35 @@ public class XBRZ {
         final int[] trg,
         final int srcWidth,
         final int srcHeight,
+        int xFirst,
+        int xLast,
         int yFirst,
         int yLast
     ) {
+        xFirst = Math.max(xFirst, 0);
+        xLast = Math.min(xLast, srcWidth);
         yFirst = Math.max(yFirst, 0);
         yLast = Math.min(yLast, srcHeight);
         
-        if (yFirst >= yLast || srcWidth <= 0)
+        if (yFirst >= yLast || xFirst >= xLast)
             return;
         
         final int trgWidth = srcWidth * scaleSize.size;
         
-        //temporary buffer for "on the fly preprocessing"
-        final char[] preProcBuffer = new char[srcWidth];
+        //the column left of a tile is analyzed but never written:
+        //it provides the left corners of the first column of the tile
+        final int xStart = Math.max(xFirst - 1, 0);
         
-        final Kernel_4x4 ker4 = new Kernel_4x4();
+        //temporary buffer for "on the fly preprocessing", indexed by x - xStart
+        if (preProcBuffer.length < xLast - xStart)
+            preProcBuffer = new char[xLast - xStart];
+        else
+            Arrays.fill(preProcBuffer, 0, xLast - xStart, (char) 0);
+        final char[] preProcBuffer = this.preProcBuffer;
         
-        preProcessCorners_colorDist = (col1, col2) -> colorDist(col1, col2, cfg.luminanceWeight);
+        //the distance rows belong to the previous call
+        for (DistRow row : distRows)
+            row.r = Integer.MIN_VALUE;
         
         //initialize preprocessing buffer for first row:
         //detect upper left and right corner blending
@@ -369,38 +806,26 @@ public class XBRZ {
         if (yFirst > 0) {
             final int y = yFirst - 1;
             
-            final int s_m1 = srcWidth * Math.max(y - 1, 0);
             final int s_0 = srcWidth * y; //center line
             final int s_p1 = srcWidth * Math.min(y + 1, srcHeight - 1);
-            final int s_p2 = srcWidth * Math.min(y + 2, srcHeight - 1);
             
-            for (int x = 0; x < srcWidth; ++x) {
-                final int x_m1 = Math.max(x - 1, 0);
+            final DistRow top = distRow(src, srcWidth, srcHeight, xStart, xLast, y - 1);
+            final DistRow mid = distRow(src, srcWidth, srcHeight, xStart, xLast, y);
+            final DistRow bottom = distRow(src, srcWidth, srcHeight, xStart, xLast, y + 1);
+            
+            int f_next = src[s_0 + xStart];
+            int j_next = src[s_p1 + xStart];
+            
+            for (int x = xStart; x < xLast; ++x) {
                 final int x_p1 = Math.min(x + 1, srcWidth - 1);
-                final int x_p2 = Math.min(x + 2, srcWidth - 1);
-                
-                //read sequentially from memory as far as possible
-                ker4.a = src[s_m1 + x_m1];
-                ker4.b = src[s_m1 + x];
-                ker4.c = src[s_m1 + x_p1];
-                ker4.d = src[s_m1 + x_p2];
-                
-                ker4.e = src[s_0 + x_m1];
-                ker4.f = src[s_0 + x];
-                ker4.g = src[s_0 + x_p1];
-                ker4.h = src[s_0 + x_p2];
-                
-                ker4.i = src[s_p1 + x_m1];
-                ker4.j = src[s_p1 + x];
-                ker4.k = src[s_p1 + x_p1];
-                ker4.l = src[s_p1 + x_p2];
                 
-                ker4.m = src[s_p2 + x_m1];
-                ker4.n = src[s_p2 + x];
-                ker4.o = src[s_p2 + x_p1];
-                ker4.p = src[s_p2 + x_p2];
+                //slide the 2x2 kernel to the right
+                final int f = f_next, g = src[s_0 + x_p1];
+                final int j = j_next, k = src[s_p1 + x_p1];
+                f_next = g;
+                j_next = k;
                 
-                preProcessCorners(ker4); // writes to blendResult
+                preProcessCorners(f, g, j, k, top, mid, bottom, x - xStart + 1); // writes to blendResult
     /*
      preprocessing blend result:
      ---------
@@ -409,68 +834,72 @@ public class XBRZ {
      | J | K |
      ---------
      */
-                preProcBuffer[x] =
-                    BlendInfo.setTopR(preProcBuffer[x], blendResult.j);
+                final int bx = x - xStart;
                 
-                if (x + 1 < srcWidth)
-                    preProcBuffer[x + 1] =
-                        BlendInfo.setTopL(preProcBuffer[x + 1], blendResult.k);
+                preProcBuffer[bx] =
+                    BlendInfo.setTopR(preProcBuffer[bx], blendResult.j);
+                
+                if (x + 1 < xLast)
+                    preProcBuffer[bx + 1] =
+                        BlendInfo.setTopL(preProcBuffer[bx + 1], blendResult.k);
             }
         }
         
-        final double eqColorThres = XBRZUtil.sqr(cfg.equalColorTolerance);
-        
-        scalePixel_colorEq = (col1, col2) -> colorDist(col1, col2, cfg.luminanceWeight) < eqColorThres;
-        
-        scalePixel_colorDist = (col1, col2) -> colorDist(col1, col2, cfg.luminanceWeight);
-        
-        outputMatrix = new XBRZMatrix(scaleSize.size, trg, trgWidth);
+        updateOutputOffsets(scaleSize.size, trgWidth);
         
         char blend_xy, blend_xy1;
         
-        final Kernel_3x3 ker3 = new Kernel_3x3();
-        
         for (int y = yFirst; y < yLast; ++y) {
             //consider MT "striped" access
-            int trgi = scaleSize.size * y * trgWidth;
+            int trgi = scaleSize.size * (y * trgWidth + xStart);
             
             final int s_m1 = srcWidth * Math.max(y - 1, 0);
             final int s_0 = srcWidth * y; //center line
             final int s_p1 = srcWidth * Math.min(y + 1, srcHeight - 1);
-            final int s_p2 = srcWidth * Math.min(y + 2, srcHeight - 1);
+            
+            //only the distances between the rows y + 1 and y + 2 are new, the others are left from the previous row
+            final DistRow top = distRow(src, srcWidth, srcHeight, xStart, xLast, y - 1);
+            final DistRow mid = distRow(src, srcWidth, srcHeight, xStart, xLast, y);
+            final DistRow bottom = distRow(src, srcWidth, srcHeight, xStart, xLast, y + 1);
+            
+            int f_next = src[s_0 + xStart];
+            int j_next = src[s_p1 + xStart];
             
             blend_xy1 = 0; //corner blending for current (x, y + 1) position
             
-            for (int x = 0; x < srcWidth; ++x, trgi += scaleSize.size) {
+            //fill the blocks of size scale * scale with the colors of their pixels, the corners are blended over them
+            fillBlocks(src, s_0 + xFirst, xLast - xFirst, trg, scaleSize.size * (y * trgWidth + xFirst), trgWidth,
+                scaleSize.size);
+            
+            //the 2x2 kernels around a flat pixel are uniform, so neither the pixel nor the kernel on its bottom right
+            //has any corner to blend; the blend information of the span is left as it is, which is none
+            final int spans = flatSpans.find(src, s_m1, s_0, s_p1, srcWidth, xStart, xLast);
+            int span = 0, flatFirst = spans > 0? flatSpans.first(0) : xLast;
+            
+            for (int x = xStart; x < xLast; ++x, trgi += scaleSize.size) {
+                if (x == flatFirst) {
+                    final int last = flatSpans.last(span);
+                    trgi += (last - 1 - x) * scaleSize.size;
+                    x = last - 1;
+                    f_next = src[s_0 + last];
+                    j_next = src[s_p1 + last];
+                    flatFirst = ++span < spans? flatSpans.first(span) : xLast;
+                    continue;
+                }
+                
                 final int x_m1 = Math.max(x - 1, 0);
                 final int x_p1 = Math.min(x + 1, srcWidth - 1);
-                final int x_p2 = Math.min(x + 2, srcWidth - 1);
                 
                 //evaluate the four corners on bottom-right of current pixel
                 //blend_xy for current (x, y) position
                 {
-                    //read sequentially from memory as far as possible
-                    ker4.a = src[s_m1 + x_m1];
-                    ker4.b = src[s_m1 + x];
-                    ker4.c = src[s_m1 + x_p1];
-                    ker4.d = src[s_m1 + x_p2];
-                    
-                    ker4.e = src[s_0 + x_m1];
-                    ker4.f = src[s_0 + x];
-                    ker4.g = src[s_0 + x_p1];
-                    ker4.h = src[s_0 + x_p2];
+                    //slide the 2x2 kernel to the right
+                    final int f = f_next, g = src[s_0 + x_p1];
+                    final int j = j_next, k = src[s_p1 + x_p1];
+                    f_next = g;
+                    j_next = k;
                     
-                    ker4.i = src[s_p1 + x_m1];
-                    ker4.j = src[s_p1 + x];
-                    ker4.k = src[s_p1 + x_p1];
-                    ker4.l = src[s_p1 + x_p2];
-                    
-                    ker4.m = src[s_p2 + x_m1];
-                    ker4.n = src[s_p2 + x];
-                    ker4.o = src[s_p2 + x_p1];
-                    ker4.p = src[s_p2 + x_p2];
-                    
-                    preProcessCorners(ker4); // writes to blendResult
+                    preProcessCorners(f, g, j, k, top, mid, bottom, x - xStart + 1); // writes to blendResult
 
      /*
       preprocessing blend result:
@@ -483,66 +912,226 @@ public class XBRZ {
                     
                     //all four corners of (x, y) have been determined at
                     //this point due to processing sequence!
+                    final int bx = x - xStart;
+                    
                     blend_xy =
                         BlendInfo.setBottomR(
-                            preProcBuffer[x], blendResult.f);
+                            preProcBuffer[bx], blendResult.f);
                     
                     //set 2nd known corner for (x, y + 1)
                     blend_xy1 = BlendInfo.setTopR(blend_xy1, blendResult.j);
                     //store on current buffer position for use on next row
-                    preProcBuffer[x] = blend_xy1;
+                    preProcBuffer[bx] = blend_xy1;
                     
                     //set 1st known corner for (x + 1, y + 1) and
                     //buffer for use on next column
                     blend_xy1 = BlendInfo.setTopL((char) 0, blendResult.k);
                     
-                    if (x + 1 < srcWidth)
+                    if (x + 1 < xLast)
                         //set 3rd known corner for (x + 1, y)
-                        preProcBuffer[x + 1] =
+                        preProcBuffer[bx + 1] =
                             BlendInfo.setBottomL(
-                                preProcBuffer[x + 1], blendResult.g);
+                                preProcBuffer[bx + 1], blendResult.g);
                 }
                 
-                //fill block of size scale * scale with the given color
-                // place *after* preprocessing step, to not overwrite the
-                // results while processing the the last pixel!
-                fillBlock(trg, trgi, trgWidth, src[s_0 + x], scaleSize.size);
+                //left neighbour of the tile: analysis only
+                if (x < xFirst)
+                    continue;
                 
                 //blend four corners of current pixel
                 if (blend_xy == 0)
                     continue;
                 
-                final int a = 0, b = 1, c = 2, d = 3, e = 4, f = 5, g = 6, h = 7, i = 8;
-                
                 //read sequentially from memory as far as possible
-                ker3._[a] = src[s_m1 + x_m1];
-                ker3._[b] = src[s_m1 + x];
-                ker3._[c] = src[s_m1 + x_p1];
+                final int a = src[s_m1 + x_m1];
+                final int b = src[s_m1 + x];
+                final int c = src[s_m1 + x_p1];
+                
+                final int d = src[s_0 + x_m1];
+                final int e = src[s_0 + x];
+                final int f = src[s_0 + x_p1];
                 
-                ker3._[d] = src[s_0 + x_m1];
-                ker3._[e] = src[s_0 + x];
-                ker3._[f] = src[s_0 + x_p1];
+                final int g = src[s_p1 + x_m1];
+                final int h = src[s_p1 + x];
+                final int i = src[s_p1 + x_p1];
                 
-                ker3._[g] = src[s_p1 + x_m1];
-                ker3._[h] = src[s_p1 + x];
-                ker3._[i] = src[s_p1 + x_p1];
+                //distances from E to the corners
+                final int dx = x - xStart + 1;
+                final double ea = top.diag[dx - 1];
+                final double ec = top.anti[dx];
+                final double eg = mid.anti[dx - 1];
+                final double ei = mid.diag[dx];
                 
-                scalePixel(scaleSize.scaler, RotationDegree.ROT_0, ker3, trg, trgi, trgWidth, blend_xy);
-                scalePixel(scaleSize.scaler, RotationDegree.ROT_90, ker3, trg, trgi, trgWidth, blend_xy);
-                scalePixel(scaleSize.scaler, RotationDegree.ROT_180, ker3, trg, trgi, trgWidth, blend_xy);
-                scalePixel(scaleSize.scaler, RotationDegree.ROT_270, ker3, trg, trgi, trgWidth, blend_xy);
+                scalePixel(a, b, c, d, e, f, g, h, i, ea, ec, eg, ei, trg, trgi, blend_xy);
             }
         }
     }
     
-    private interface IColorEq {
+    //blends the four corners of E
+    private void scalePixel(
+        final int a, final int b, final int c,
+        final int d, final int e, final int f,
+        final int g, final int h, final int i,
+        final double ea, final double ec, final double eg, final double ei,
+        final int[] trg,
+        final int trgi,
+        final char blendInfo
+    ) {
+        //the kernel rotated clock-wise, written out for every rotation
+        scalePixel(RotationDegree.ROT_0,
+            b, c,
+            d, e, f,
+            g, h, i,
+            eg, ec, ei, trg, trgi, blendInfo);
+        scalePixel(RotationDegree.ROT_90,
+            d, a,
+            h, e, b,
+            i, f, c,
+            ei, ea, ec, trg, trgi, blendInfo);
+        scalePixel(RotationDegree.ROT_180,
+            h, g,
+            f, e, d,
+            c, b, a,
+            ec, eg, ea, trg, trgi, blendInfo);
+        scalePixel(RotationDegree.ROT_270,
+            f, i,
+            b, e, h,
+            a, d, g,
+            ea, ei, eg, trg, trgi, blendInfo);
+    }
+    
+    //the corner analysis of scaleImage for entire rows: the kernel at (x, y) determines the bottom right corner of
+    //(x, y), the bottom left one of (x + 1, y), the top right one of (x, y + 1) and the top left one of (x + 1, y + 1)
+    private void analyzeImage(
+        final int[] src,
+        final int srcWidth,
+        final int srcHeight,
+        final char[] plane,
+        int yFirst,
+        int yLast
+    ) {
+        yFirst = Math.max(yFirst, 0);
+        yLast = Math.min(yLast, srcHeight);
         
-        public boolean _(int col1, int col2);
+        if (yFirst >= yLast || srcWidth == 0)
+            return;
+        
+        Arrays.fill(plane, srcWidth * yFirst, srcWidth * yLast, (char) 0);
+        
+        //the distance rows belong to the previous call
+        for (DistRow row : distRows)
+            row.r = Integer.MIN_VALUE;
+        
+        //the kernels of the row above the slice provide the top corners of its first row
+        for (int y = Math.max(yFirst - 1, 0); y < yLast; ++y) {
+            final int s_0 = srcWidth * y; //center line
+            final int s_p1 = srcWidth * Math.min(y + 1, srcHeight - 1);
+            final boolean writeTop = y >= yFirst, writeBottom = y + 1 < yLast;
+            
+            final DistRow top = distRow(src, srcWidth, srcHeight, 0, srcWidth, y - 1);
+            final DistRow mid = distRow(src, srcWidth, srcHeight, 0, srcWidth, y);
+            final DistRow bottom = distRow(src, srcWidth, srcHeight, 0, srcWidth, y + 1);
+            
+            int f_next = src[s_0];
+            int j_next = src[s_p1];
+            
+            //the kernels at flat pixels are uniform and have nothing to blend
+            final int spans = flatSpans.find(src, srcWidth * Math.max(y - 1, 0), s_0, s_p1, srcWidth);
+            int span = 0, flatFirst = spans > 0? flatSpans.first(0) : srcWidth;
+            
+            for (int x = 0; x < srcWidth; ++x) {
+                if (x == flatFirst) {
+                    x = flatSpans.last(span) - 1;
+                    f_next = src[s_0 + x + 1];
+                    j_next = src[s_p1 + x + 1];
+                    flatFirst = ++span < spans? flatSpans.first(span) : srcWidth;
+                    continue;
+                }
+                
+                final int x_p1 = Math.min(x + 1, srcWidth - 1);
+                
+                //slide the 2x2 kernel to the right
+                final int f = f_next, g = src[s_0 + x_p1];
+                final int j = j_next, k = src[s_p1 + x_p1];
+                f_next = g;
+                j_next = k;
+                
+                preProcessCorners(f, g, j, k, top, mid, bottom, x + 1); // writes to blendResult
+                
+                final int p = s_0 + x;
+                final boolean hasRight = x + 1 < srcWidth;
+                if (writeTop) {
+                    plane[p] = BlendInfo.setBottomR(plane[p], blendResult.f);
+                    if (hasRight)
+                        plane[p + 1] = BlendInfo.setBottomL(plane[p + 1], blendResult.g);
+                }
+                if (writeBottom) {
+                    plane[p + srcWidth] = BlendInfo.setTopR(plane[p + srcWidth], blendResult.j);
+                    if (hasRight)
+                        plane[p + srcWidth + 1] = BlendInfo.setTopL(plane[p + srcWidth + 1], blendResult.k);
+                }
+            }
+        }
     }
     
-    private interface IColorDist {
+    //the blending of scaleImage, with the blend information taken from the plane; the distances from E to its
+    //corners are only needed where there is something to blend, so they are computed on demand, in the argument
+    //order of the distance rows; the target row of source row yOrigin is the first row of trg
+    private void renderImage(
+        final int[] src,
+        final int[] trg,
+        final int srcWidth,
+        final int srcHeight,
+        final char[] plane,
+        int xFirst,
+        int xLast,
+        int yFirst,
+        int yLast,
+        final int yOrigin
+    ) {
+        xFirst = Math.max(xFirst, 0);
+        xLast = Math.min(xLast, srcWidth);
+        yFirst = Math.max(yFirst, 0);
+        yLast = Math.min(yLast, srcHeight);
         
-        public double _(int col1, int col2);
+        if (yFirst >= yLast || xFirst >= xLast)
+            return;
+        
+        final int trgWidth = srcWidth * scaleSize.size;
+        updateOutputOffsets(scaleSize.size, trgWidth);
+        
+        for (int y = yFirst; y < yLast; ++y) {
+            int trgi = scaleSize.size * ((y - yOrigin) * trgWidth + xFirst);
+            
+            final int s_m1 = srcWidth * Math.max(y - 1, 0);
+            final int s_0 = srcWidth * y; //center line
+            final int s_p1 = srcWidth * Math.min(y + 1, srcHeight - 1);
+            
+            fillBlocks(src, s_0 + xFirst, xLast - xFirst, trg, trgi, trgWidth, scaleSize.size);
+            
+            for (int x = xFirst; x < xLast; ++x, trgi += scaleSize.size) {
+                final char blend_xy = plane[s_0 + x];
+                if (blend_xy == 0)
+                    continue;
+                
+                final int x_m1 = Math.max(x - 1, 0);
+                final int x_p1 = Math.min(x + 1, srcWidth - 1);
+                
+                final int a = src[s_m1 + x_m1];
+                final int b = src[s_m1 + x];
+                final int c = src[s_m1 + x_p1];
+                
+                final int d = src[s_0 + x_m1];
+                final int e = src[s_0 + x];
+                final int f = src[s_0 + x_p1];
+                
+                final int g = src[s_p1 + x_m1];
+                final int h = src[s_p1 + x];
+                final int i = src[s_p1 + x_p1];
+                
+                scalePixel(a, b, c, d, e, f, g, h, i, dist(a, e), dist(e, c), dist(g, e), dist(e, i), trg, trgi, blend_xy);
+            }
+        }
     }
     
     private enum BlendInfo {
@@ -589,74 +1178,44 @@ public class XBRZ {
     static final int maxRots = 4; // Number of 90 degree rotations
     static final int maxScale = 5; // Highest possible scale
     static final int maxScaleSq = maxScale * maxScale;
-    static final IntPair[] matrixRotation;
+    //rotated (i, j) coordinates of every output block entry, indexed by scale, rotation, i and j
+    static final int[] matrixRotationI, matrixRotationJ;
     
     //calculate input matrix coordinates after rotation at program startup
     static {
-        matrixRotation = new IntPair[(maxScale - 1) * maxScaleSq * maxRots];
+        matrixRotationI = new int[(maxScale - 1) * maxScaleSq * maxRots];
+        matrixRotationJ = new int[(maxScale - 1) * maxScaleSq * maxRots];
         for (int n = 2; n < maxScale + 1; n++)
             for (int r = 0; r < maxRots; r++) {
                 final int nr = (n - 2) * (maxRots * maxScaleSq) + r * maxScaleSq;
                 for (int i = 0; i < maxScale; i++)
-                    for (int j = 0; j < maxScale; j++)
-                        matrixRotation[nr + i * maxScale + j] =
-                            buildMatrixRotation(r, i, j, n);
+                    for (int j = 0; j < maxScale; j++) {
+                        int I = i, J = j;
+                        //old coordinates before rotation!
+                        for (int rotDeg = 0; rotDeg < r; rotDeg++) {
+                            final int I_old = n - 1 - J;
+                            J = I;
+                            I = I_old;
+                        }
+                        matrixRotationI[nr + i * maxScale + j] = I;
+                        matrixRotationJ[nr + i * maxScale + j] = J;
+                    }
             }
     }
     
-    private static IntPair buildMatrixRotation(
-        final int rotDeg,
-        final int I,
-        final int J,
-        final int N) {
-        final int I_old, J_old;
-        
-        if (rotDeg == 0) {
-            I_old = I;
-            J_old = J;
-            
-        }
-        else {
-            //old coordinates before rotation!
-            final IntPair old = buildMatrixRotation(rotDeg - 1, I, J, N);
-            I_old = N - 1 - old.J;
-            J_old = old.I;
-        }
-        
-        return new IntPair(I_old, J_old);
-    }
-    
-    static final class IntPair {
-        
-        public final int I;
-        public final int J;
-        
-        public IntPair(final int i, final int j) {
-            I = i;
-            J = j;
-        }
-    }
-    
-    static final class IntPtr {
-        
-        private final int[] arr;
-        private int ptr;
-        
-        public IntPtr(final int[] intArray) {
-            this.arr = intArray;
-        }
-        
-        public final void position(final int position) {
-            ptr = position;
-        }
-        
-        public final int get() {
-            return arr[ptr];
-        }
+    //turn the rotated coordinates into flat offsets within a target image of the given width, once per scale and
+    //width, so that the blend routines can address the target array directly
+    private void updateOutputOffsets(final int scale, final int trgWidth) {
+        if (scale == outputOffsetsScale && trgWidth == outputOffsetsWidth)
+            return;
         
-        public final void set(final int val) {
-            arr[ptr] = val;
+        for (int r = 0; r < maxRots; r++) {
+            final int nr = (scale - 2) * (maxRots * maxScaleSq) + r * maxScaleSq;
+            for (int k = 0; k < maxScaleSq; k++)
+                outputOffsets[r][k] = matrixRotationJ[nr + k] + matrixRotationI[nr + k] * trgWidth;
         }
+        outputOffsetsScale = scale;
+        outputOffsetsWidth = trgWidth;
     }
     
 }
@@ -0,0 +1,61 @@
+package de.janschultke.jpass.xbrz;
+
+/**
+ * The blend information of all pixels of a source image, as determined by the corner analysis of xBRZ. It consists
+ * of one {@code char} per source pixel, which holds the blend type of each of the four corners of the pixel.
+ * <p>
+ * The analysis does not depend on the scale, so a plane may be analyzed once with
+ * {@link XBRZ#analyze(int[], int, int, XBRZConfig)} and then be rendered at any scale size with
+ * {@link XBRZ#render(XBRZScaleSize, int[], int[], int, int, XBRZConfig, XBRZBlendPlane)}. Since the data is a plain
+ * array, it may also be stored alongside the source image and be wrapped again later on.
+ */
+public final class XBRZBlendPlane {
+    
+    private final char[] data;
+    private final int width, height;
+    
+    /**
+     * Constructs a new, not yet analyzed blend plane.
+     *
+     * @param width the source width
+     * @param height the source height
+     */
+    public XBRZBlendPlane(int width, int height) {
+        this(new char[width * height], width, height);
+    }
+    
+    /**
+     * Wraps existing blend information, for instance one which has been stored before.
+     *
+     * @param data the blend information in row-major order
+     * @param width the source width
+     * @param height the source height
+     */
+    public XBRZBlendPlane(char[] data, int width, int height) {
+        if (width < 0 || height < 0)
+            throw new IllegalArgumentException("negative dimensions: " + width + "x" + height);
+        if (data.length != width * height)
+            throw new IllegalArgumentException("data length " + data.length + " does not match " + width + "x" + height);
+        this.data = data;
+        this.width = width;
+        this.height = height;
+    }
+    
+    /**
+     * Returns the blend information in row-major order. The array is not copied.
+     *
+     * @return the blend information
+     */
+    public char[] getData() {
+        return data;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+}
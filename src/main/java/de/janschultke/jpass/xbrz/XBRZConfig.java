@@ -6,4 +6,7 @@ public final class XBRZConfig {
     public double equalColorTolerance = 30;
     public double dominantDirectionThreshold = 3.6;
     public double steepDirectionThreshold = 2.2;
+    // Compute color distances in fixed point, which is faster but may rarely change a blend decision.
+    // Luminance weights beyond XBRZUtil.MAX_FIXED_LUMINANCE_WEIGHT always use double precision.
+    public boolean fixedPointDistance = false;
 }
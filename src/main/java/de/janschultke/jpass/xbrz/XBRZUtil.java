@@ -9,27 +9,37 @@ public final class XBRZUtil {
         GREEN_MASK = 0x00ff00,
         BLUE_MASK = 0x0000ff;
     
-    public static void alphaBlend(final int n, final int m, final XBRZ.IntPtr dstPtr, final int col) {
+    //ceil(2^RECIPROCAL_SHIFT / m): (v * RECIPROCALS[m]) >> RECIPROCAL_SHIFT == v / m for all 0 <= v <= 255 * m,
+    //as long as m < 256, since the error v * (RECIPROCALS[m] / 2^RECIPROCAL_SHIFT - 1 / m) stays below 1 / m
+    private static final int RECIPROCAL_SHIFT = 24;
+    private static final long[] RECIPROCALS = new long[256];
+    
+    static {
+        for (int m = 1; m < RECIPROCALS.length; m++)
+            RECIPROCALS[m] = ((1L << RECIPROCAL_SHIFT) + m - 1) / m;
+    }
+    
+    public static void alphaBlend(final int n, final int m, final int[] trg, final int trgi, final int col) {
         assert n < 256 : "possible overflow of (col & RED_MASK) * N";
         assert m < 256 : "possible overflow of (col & RED_MASK) * N + (dst & RED_MASK) * (M - N)";
         assert 0 < n && n < m : "0 < N && N < M";
-        //this works because 8 upper bits are free
-        final int dst = dstPtr.get();
-        final int redComponent = blendComponent(RED_MASK, n, m, dst, col);
-        final int greenComponent = blendComponent(GREEN_MASK, n, m, dst, col);
-        final int blueComponent = blendComponent(BLUE_MASK, n, m, dst, col);
-        final int blend = (redComponent | greenComponent | blueComponent);
-        dstPtr.set(blend | 0xff000000);
+        final int dst = trg[trgi];
+        final long reciprocal = RECIPROCALS[m];
+        
+        //red and blue in two 32 bit lanes: the weighted sums are below 2^16 and their products with the
+        //reciprocal below 2^32, so neither lane can overflow into the other one
+        final long rb = (unpackRedBlue(col) * n + unpackRedBlue(dst) * (m - n)) * reciprocal >>> RECIPROCAL_SHIFT;
+        final long g = (((col & GREEN_MASK) >> 8) * n + ((dst & GREEN_MASK) >> 8) * (m - n)) * reciprocal
+            >>> RECIPROCAL_SHIFT;
+        
+        //the fraction of red lands in bits 8 to 31, above blue
+        final int blend = (int) (rb >>> 32) << 16 | (int) g << 8 | (int) rb & BLUE_MASK;
+        trg[trgi] = blend | 0xff000000;
     }
     
     @Contract(pure = true)
-    private static int blendComponent(final int mask,
-                                      final int n, final int m,
-                                      final int inPixel, final int setPixel) {
-        final int inChan = inPixel & mask;
-        final int setChan = setPixel & mask;
-        final int blend = setChan * n + inChan * (m - n);
-        return mask & (blend / m);
+    private static long unpackRedBlue(final int col) {
+        return (col & BLUE_MASK) | (long) (col & RED_MASK) << 16;
     }
     
     @Contract(pure = true)
@@ -41,6 +51,45 @@ public final class XBRZUtil {
         return pix1 == pix2? 0 : distYCbCr(pix1, pix2, luminanceWeight);
     }
     
+    /**
+     * Fixed-point variant of {@link #colorDist(int, int, double)} which only uses integer arithmetic. The result is
+     * the squared YCbCr distance, scaled by {@code 2^(2 * }{@value #DIST_FRACTION_BITS}{@code )}.
+     *
+     * @param pix1 the first color
+     * @param pix2 the second color
+     * @param luminanceWeightSq the squared luminance weight, see {@link #toFixedLuminanceWeightSq(double)}
+     * @return the scaled squared distance
+     */
+    public static long colorDistFixed(final int pix1, final int pix2, final long luminanceWeightSq) {
+        return pix1 == pix2? 0 : distYCbCrFixed(pix1, pix2, luminanceWeightSq);
+    }
+    
+    /**
+     * Converts a luminance weight to the fixed-point form expected by {@link #colorDistFixed(int, int, long)}. The
+     * weight must not exceed {@value #MAX_FIXED_LUMINANCE_WEIGHT} in magnitude, since larger weights would overflow
+     * the fixed-point distance.
+     *
+     * @param luminanceWeight the luminance weight
+     * @return the squared luminance weight in fixed point
+     * @throws IllegalArgumentException if the weight is out of range
+     */
+    public static long toFixedLuminanceWeightSq(final double luminanceWeight) {
+        if (!(Math.abs(luminanceWeight) <= MAX_FIXED_LUMINANCE_WEIGHT))
+            throw new IllegalArgumentException("luminance weight out of fixed-point range: " + luminanceWeight);
+        return Math.round(sqr(luminanceWeight) * (1 << DIST_FRACTION_BITS));
+    }
+    
+    /**
+     * Converts a distance as returned by {@link #colorDist(int, int, double)} to the scale of
+     * {@link #colorDistFixed(int, int, long)}.
+     *
+     * @param dist the distance
+     * @return the distance in fixed point
+     */
+    public static long toFixedDist(final double dist) {
+        return (long) (dist * (1L << 2 * DIST_FRACTION_BITS));
+    }
+    
     private static double distYCbCr(final int pix1, final int pix2, final double lumaWeight) {
         //http://en.wikipedia.org/wiki/YCbCr#ITU-R_BT.601_conversion
         //YCbCr conversion is a matrix multiplication => take advantage of linearity by subtracting first!
@@ -66,6 +115,52 @@ public final class XBRZUtil {
         return sqr(lumaWeight * y) + sqr(c_b) + sqr(c_r);
     }
     
+    //the YCbCr conversion of distYCbCr, with the coefficients rounded to DIST_FRACTION_BITS fractional bits
+    public static final int DIST_FRACTION_BITS = 12;
+    //y * y < 2^40 and the squared weight is at most 2^10 * 2^DIST_FRACTION_BITS, so the weighted square stays
+    //far below 2^63 and the distance still fits exactly into a double
+    public static final int MAX_FIXED_LUMINANCE_WEIGHT = 32;
+    private static final int Y_R, Y_G, Y_B, CB_R, CB_G, CB_B, CR_R, CR_G, CR_B;
+    
+    static {
+        final double k_b = 0.0722; //ITU-R BT.709 conversion
+        final double k_r = 0.2126; //
+        final double k_g = 1 - k_b - k_r;
+        
+        final double scale_b = 0.5 / (1 - k_b);
+        final double scale_r = 0.5 / (1 - k_r);
+        
+        final double one = 1 << DIST_FRACTION_BITS;
+        
+        //y = k_r * r + k_g * g + k_b * b
+        Y_R = (int) Math.round(one * k_r);
+        Y_G = (int) Math.round(one * k_g);
+        Y_B = (int) Math.round(one * k_b);
+        
+        //c_b = scale_b * (b - y)
+        CB_R = (int) Math.round(one * -scale_b * k_r);
+        CB_G = (int) Math.round(one * -scale_b * k_g);
+        CB_B = (int) Math.round(one * scale_b * (1 - k_b));
+        
+        //c_r = scale_r * (r - y)
+        CR_R = (int) Math.round(one * scale_r * (1 - k_r));
+        CR_G = (int) Math.round(one * -scale_r * k_g);
+        CR_B = (int) Math.round(one * -scale_r * k_b);
+    }
+    
+    private static long distYCbCrFixed(final int pix1, final int pix2, final long lumaWeightSq) {
+        final int r_diff = ((pix1 & RED_MASK) - (pix2 & RED_MASK)) >> 16;
+        final int g_diff = ((pix1 & GREEN_MASK) - (pix2 & GREEN_MASK)) >> 8;
+        final int b_diff = (pix1 & BLUE_MASK) - (pix2 & BLUE_MASK);
+        
+        //|component| < 2^8 * 2^DIST_FRACTION_BITS, so the squares need 64 bits
+        final long y = Y_R * r_diff + Y_G * g_diff + Y_B * b_diff;
+        final long c_b = CB_R * r_diff + CB_G * g_diff + CB_B * b_diff;
+        final long c_r = CR_R * r_diff + CR_G * g_diff + CR_B * b_diff;
+        
+        return (y * y * lumaWeightSq >> DIST_FRACTION_BITS) + c_b * c_b + c_r * c_r;
+    }
+    
     private static double distNonLinearRGB(final int pix1, final int pix2) {
         //non-linear rgb: http://www.compuphase.com/cmetric.htm
         final double r_diff = ((pix1 & RED_MASK) - (pix2 & RED_MASK)) >> 16; //we may delay division by 255 to after matrix multiplication
@@ -0,0 +1,98 @@
+package de.janschultke.jpass.simd;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernels of {@link SIMD} on the Vector API. Rows are processed in vectors of the preferred width of the
+ * platform, the remainder is left to {@link ScalarKernels}.
+ */
+final class VectorKernels {
+    
+    private final static VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private final static int LANES = SPECIES.length();
+    
+    //larger factors write long runs of equal pixels, where shuffles are no faster than scalar stores
+    private final static int MAX_EXPAND_FACTOR = 8;
+    
+    /*
+     * EXPAND[factor][k] spreads the lanes of a source vector across the k-th of the factor output vectors, which are
+     * written one after another: output lane j of vector k is source lane (k * LANES + j) / factor.
+     */
+    private final static VectorShuffle<Integer>[][] EXPAND = expandShuffles();
+    
+    private VectorKernels() {}
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[][] expandShuffles() {
+        final VectorShuffle<Integer>[][] shuffles = new VectorShuffle[MAX_EXPAND_FACTOR + 1][];
+        for (int factor = 1; factor <= MAX_EXPAND_FACTOR; factor++) {
+            final int f = factor;
+            shuffles[f] = new VectorShuffle[f];
+            for (int k = 0; k < f; k++) {
+                final int offset = k * LANES;
+                shuffles[f][k] = VectorShuffle.fromOp(SPECIES, j -> (offset + j) / f);
+            }
+        }
+        return shuffles;
+    }
+    
+    static void expandRow(int[] in, int srcIdx, int w, int[] out, int outIdx, int factor) {
+        if (factor > MAX_EXPAND_FACTOR) {
+            ScalarKernels.expandRow(in, srcIdx, w, out, outIdx, factor);
+            return;
+        }
+        
+        final VectorShuffle<Integer>[] shuffles = EXPAND[factor];
+        final int bound = SPECIES.loopBound(w);
+        int x = 0;
+        for (int o = outIdx; x < bound; x += LANES) {
+            final IntVector v = IntVector.fromArray(SPECIES, in, srcIdx + x);
+            for (int k = 0; k < factor; k++, o += LANES)
+                v.rearrange(shuffles[k]).intoArray(out, o);
+        }
+        
+        ScalarKernels.expandRow(in, srcIdx + x, w - x, out, outIdx + x * factor, factor);
+    }
+    
+    static void hqxDiff(
+        final int[] c, final int cIdx, final int[] cYuv, final int cYuvIdx,
+        final int[] n, final int nIdx, final int[] nYuv, final int nYuvIdx,
+        final int length,
+        final int trY, final int trU, final int trV, final int trA,
+        final int[] patterns, final int patternIdx, final int bit) {
+        
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            final IntVector c1 = IntVector.fromArray(SPECIES, c, cIdx + i);
+            final IntVector c2 = IntVector.fromArray(SPECIES, n, nIdx + i);
+            final IntVector yuv1 = IntVector.fromArray(SPECIES, cYuv, cYuvIdx + i);
+            final IntVector yuv2 = IntVector.fromArray(SPECIES, nYuv, nYuvIdx + i);
+            
+            final VectorMask<Integer> differs =
+                component(yuv1, yuv2, ScalarKernels.Y_MASK, trY)
+                .or(component(yuv1, yuv2, ScalarKernels.U_MASK, trU))
+                .or(component(yuv1, yuv2, ScalarKernels.V_MASK, trV))
+                .or(c1.lanewise(VectorOperators.ASHR, 24)
+                    .sub(c2.lanewise(VectorOperators.ASHR, 24))
+                    .abs()
+                    .compare(VectorOperators.GT, trA))
+                .and(c1.compare(VectorOperators.NE, c2));
+            
+            final IntVector p = IntVector.fromArray(SPECIES, patterns, patternIdx + i);
+            p.blend(p.or(bit), differs).intoArray(patterns, patternIdx + i);
+        }
+        
+        ScalarKernels.hqxDiff(c, cIdx + i, cYuv, cYuvIdx + i, n, nIdx + i, nYuv, nYuvIdx + i, length - i,
+            trY, trU, trV, trA, patterns, patternIdx + i, bit);
+    }
+    
+    private static VectorMask<Integer> component(IntVector yuv1, IntVector yuv2, int mask, int threshold) {
+        return yuv1.and(mask).sub(yuv2.and(mask)).abs().compare(VectorOperators.GT, threshold);
+    }
+    
+}
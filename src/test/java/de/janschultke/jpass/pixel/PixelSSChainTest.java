@@ -0,0 +1,66 @@
+package de.janschultke.jpass.pixel;
+
+import de.janschultke.jpass.JPASSScheduler;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PixelSSChainTest {
+    
+    private final static int RUNS = 10;
+    
+    @BeforeClass
+    public static void setUpPool() {
+        //parallel stages must be able to fork while other tiles of the chain run
+        try {
+            JPASSScheduler.setThreads(4);
+        } catch (IllegalStateException ex) {
+            //the pool already exists
+        }
+    }
+    
+    @Test
+    public void parallelStagesMatchSequentialStages() {
+        final int w = 150, h = 157;
+        final int[] src = randomImage(w, h, 7);
+        
+        for (String name : new String[] {"xbrz2+xbrz2+xbrz2+xbrz2+xbrz2", "xbrz3+xbrz3+xbrz3", "hqx2+xbrz3"}) {
+            final PixelSSChain chain = (PixelSSChain) PixelSupersampler.getByName(name, true);
+            final int[] expected = applySequentially(chain.getStages(), src, w, h);
+            for (int run = 0; run < RUNS; run++)
+                assertArrayEquals(name + ", run " + run, expected, chain.apply(src, null, w, h));
+        }
+    }
+    
+    @Test
+    public void serialStagesMatchSequentialStages() {
+        final int w = 150, h = 157;
+        final int[] src = randomImage(w, h, 11);
+        
+        final PixelSSChain chain = new PixelSSChain(new PixelSSxBRZ(3), new PixelSSxBRZ(2));
+        assertArrayEquals(applySequentially(chain.getStages(), src, w, h), chain.apply(src, null, w, h));
+    }
+    
+    private static int[] applySequentially(PixelSupersampler[] stages, int[] src, int w, int h) {
+        int[] data = src;
+        for (PixelSupersampler stage : stages) {
+            data = stage.apply(data, null, w, h);
+            w *= stage.getFactor();
+            h *= stage.getFactor();
+        }
+        return data;
+    }
+    
+    //mostly flat with scattered edges, like pixel art
+    private static int[] randomImage(int w, int h, long seed) {
+        final Random random = new Random(seed);
+        final int[] result = new int[w * h];
+        for (int i = 0; i < result.length; i++)
+            result[i] = 0xFF000000 | (random.nextInt(5) == 0? random.nextInt(8) * 0x203040 : 0x102030);
+        return result;
+    }
+    
+}
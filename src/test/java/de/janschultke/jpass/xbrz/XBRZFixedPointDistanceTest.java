@@ -0,0 +1,105 @@
+package de.janschultke.jpass.xbrz;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class XBRZFixedPointDistanceTest {
+    
+    //every coefficient is rounded by at most half a unit, and every channel difference is at most 255
+    private final static double COMPONENT_ERROR = 255 * 3 * 0.5 / (1 << XBRZUtil.DIST_FRACTION_BITS);
+    
+    @Test
+    public void fixedDistanceIsCloseToDoubleDistance() {
+        final Random random = new Random(3);
+        for (double weight : new double[] {0.5, 1, 2, XBRZUtil.MAX_FIXED_LUMINANCE_WEIGHT}) {
+            final long weightSq = XBRZUtil.toFixedLuminanceWeightSq(weight);
+            //the error of each YCbCr component, and of the luminance from rounding the squared weight
+            final double fixedWeight = Math.sqrt(weightSq / (double) (1 << XBRZUtil.DIST_FRACTION_BITS));
+            final double tolerance =
+                Math.sqrt(XBRZUtil.sqr(weight * COMPONENT_ERROR) + 2 * XBRZUtil.sqr(COMPONENT_ERROR))
+                + Math.abs(fixedWeight - weight) * 255 + 1e-3;
+            
+            for (int i = 0; i < 1_000_000; i++) {
+                final int pix1 = random.nextInt();
+                //similar colors as well, which decide most blends
+                final int pix2 = (i & 1) == 0? random.nextInt() : pix1 ^ random.nextInt(8) << 8 * random.nextInt(3);
+                
+                final double dist = Math.sqrt(XBRZUtil.colorDist(pix1, pix2, weight));
+                final double fixed = Math.sqrt(XBRZUtil.colorDistFixed(pix1, pix2, weightSq)
+                    / (double) (1L << 2 * XBRZUtil.DIST_FRACTION_BITS));
+                if (Math.abs(fixed - dist) > tolerance)
+                    fail(String.format("weight %s, colors %08x and %08x: %s instead of %s",
+                        weight, pix1, pix2, fixed, dist));
+            }
+        }
+    }
+    
+    @Test
+    public void fixedDistanceRarelyChangesBlending() {
+        final int w = 256, h = 256;
+        final Random random = new Random(5);
+        final int[] palette = new int[16];
+        for (int i = 0; i < palette.length; i++)
+            palette[i] = 0xFF000000 | random.nextInt(0x1000000);
+        
+        final int[] gradient = new int[w * h], paletted = new int[w * h];
+        for (int y = 0; y < h; y++)
+            for (int x = 0; x < w; x++) {
+                gradient[y * w + x] = 0xFF000000 | x << 16 | y << 8 | (x + y) / 2;
+                paletted[y * w + x] = palette[(x / (1 + random.nextInt(4)) ^ y / 3) & 15];
+            }
+        
+        //at most 0.1% of the pixels
+        for (int[] src : new int[][] {gradient, paletted}) {
+            final long diffs = countDifferentBlocks(src, w, h);
+            assertTrue(diffs + " of " + w * h + " pixels blended differently", diffs * 1000 <= w * h);
+        }
+    }
+    
+    @Test
+    public void largeWeightsAreRejected() {
+        try {
+            XBRZUtil.toFixedLuminanceWeightSq(XBRZUtil.MAX_FIXED_LUMINANCE_WEIGHT + 1);
+            fail("weight out of range was accepted");
+        } catch (IllegalArgumentException expected) {
+            //the fixed-point distance would overflow
+        }
+    }
+    
+    //all blending of a source pixel happens within its own output block, so a block which differs between both
+    //distances means that at least one blend decision for that pixel differs
+    private static long countDifferentBlocks(int[] src, int w, int h) {
+        final XBRZScaleSize scaleSize = XBRZScaleSize.Times2;
+        final int scale = scaleSize.size, trgWidth = w * scale;
+        
+        final int[] reference = new int[w * h * scale * scale];
+        final int[] fixed = new int[reference.length];
+        XBRZ.scale(scaleSize, src, reference, w, h, config(false));
+        XBRZ.scale(scaleSize, src, fixed, w, h, config(true));
+        
+        long diffs = 0;
+        for (int y = 0; y < h; y++)
+            for (int x = 0; x < w; x++)
+                if (!sameBlock(reference, fixed, (y * trgWidth + x) * scale, trgWidth, scale))
+                    diffs++;
+        return diffs;
+    }
+    
+    private static boolean sameBlock(int[] a, int[] b, int trgi, int pitch, int scale) {
+        for (int y = 0; y < scale; y++, trgi += pitch)
+            for (int x = 0; x < scale; x++)
+                if (a[trgi + x] != b[trgi + x])
+                    return false;
+        return true;
+    }
+    
+    private static XBRZConfig config(boolean fixedPointDistance) {
+        XBRZConfig result = new XBRZConfig();
+        result.fixedPointDistance = fixedPointDistance;
+        return result;
+    }
+    
+}